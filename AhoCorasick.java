@@ -0,0 +1,304 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class counts how many times each of a set of patterns occurs in a text, overlaps included, in one
+ * pass over the text. The patterns are built into an Aho-Corasick automaton once. When the states times the
+ * distinct characters fit in MAX_TABLE, every failure link is folded into a full transition table, so
+ * scanning costs O(N) for a text of length N no matter how many patterns there are. Larger automata, such as
+ * many long patterns over a wide alphabet, keep only the trie edges of each state, sorted, and follow failure
+ * links while scanning, which costs O(N log A) where A is the number of distinct characters.
+ */
+public class AhoCorasick {
+
+	public static final int MAX_TABLE = 1 << 24; // most ints a full transition table may take
+	public static final int MAX_LENGTH = 1 << 28; // most characters all patterns may have together
+	private final int alphabet; // how many distinct characters the patterns use
+	private final int[] symbols; // character -> symbol, -1 or past the end resets to the root
+	private final int[] next; // next[state * alphabet + symbol] is the state after reading symbol, or null
+	private final int[] edgeStart; // without next, the edges of state are edgeStart[state] until edgeStart[state + 1]
+	private final int[] edgeSymbol; // the symbol of each edge, ascending within a state
+	private final int[] edgeTo; // the child each edge leads to
+	private final int[] order; // states in breadth first order, parents before children
+	private final int[] fail; // the longest proper suffix of each state that is also a state
+	private final int[] terminal; // the state each pattern ends in
+	private final int[] lengths; // the length of each pattern
+
+	/**
+	 * @param patterns
+	 *            are the strings to count, duplicates and empty strings are
+	 *            allowed
+	 * @throws IllegalArgumentException
+	 *             if the patterns are longer than MAX_LENGTH characters in
+	 *             total
+	 */
+	public AhoCorasick(String[] patterns) {
+		// O(L + S * A) where L is the total length of the patterns, S the
+		// number of states and A the number of distinct characters in them
+		// when the full table fits, O(L log A) otherwise
+		long totalLength = 0;
+		int maxChar = 0;
+		for (String p : patterns) {
+			totalLength += p.length();
+			for (int i = 0; i < p.length(); i++) {
+				maxChar = Math.max(maxChar, p.charAt(i));
+			}
+		}
+		if (totalLength > MAX_LENGTH) {
+			throw new IllegalArgumentException("Patterns are too long!");
+		}
+		symbols = new int[maxChar + 1];
+		Arrays.fill(symbols, -1);
+		int distinct = 0;
+		for (String p : patterns) {
+			for (int i = 0; i < p.length(); i++) {
+				if (symbols[p.charAt(i)] < 0) {
+					symbols[p.charAt(i)] = distinct++;
+				}
+			}
+		}
+		alphabet = Math.max(1, distinct);
+
+		// build the trie with its edges in an open-addressed hash table keyed
+		// by state * alphabet + symbol, so its size follows the edges only
+		int maxEdges = (int) totalLength;
+		int hashCap = Integer.highestOneBit(Math.max(1, maxEdges)) << 2; // at most half full
+		long[] edgeKeys = new long[hashCap];
+		int[] edgeChild = new int[hashCap];
+		Arrays.fill(edgeKeys, -1);
+		int[] parent = new int[maxEdges + 1];
+		int[] symbolOf = new int[maxEdges + 1];
+		int states = 1;
+		terminal = new int[patterns.length];
+		lengths = new int[patterns.length];
+		for (int k = 0; k < patterns.length; k++) {
+			int state = 0;
+			for (int i = 0; i < patterns[k].length(); i++) {
+				int symbol = symbols[patterns[k].charAt(i)];
+				long key = (long) state * alphabet + symbol;
+				int slot = hashSlot(edgeKeys, key);
+				if (edgeKeys[slot] < 0) {
+					edgeKeys[slot] = key;
+					edgeChild[slot] = states;
+					parent[states] = state;
+					symbolOf[states] = symbol;
+					states++;
+				}
+				state = edgeChild[slot];
+			}
+			terminal[k] = state;
+			lengths[k] = patterns[k].length();
+		}
+		fail = new int[states];
+		order = new int[states];
+
+		if ((long) states * alphabet <= MAX_TABLE) {
+			// -1 marks a missing edge until the breadth first pass fills it
+			next = new int[states * alphabet];
+			Arrays.fill(next, -1);
+			for (int child = 1; child < states; child++) {
+				next[parent[child] * alphabet + symbolOf[child]] = child;
+			}
+			edgeStart = null;
+			edgeSymbol = null;
+			edgeTo = null;
+
+			// breadth first: a missing edge goes where the failure state goes
+			int head = 0;
+			int tail = 0;
+			order[tail++] = 0;
+			while (head < tail) {
+				int state = order[head++];
+				for (int a = 0; a < alphabet; a++) {
+					int slot = state * alphabet + a;
+					int child = next[slot];
+					int fallback = state == 0 ? 0 : next[fail[state] * alphabet + a];
+					if (child < 0) {
+						next[slot] = fallback;
+					} else {
+						fail[child] = fallback;
+						order[tail++] = child;
+					}
+				}
+			}
+		} else {
+			// group the edges by state, sorted by symbol for binary search
+			next = null;
+			edgeStart = new int[states + 1];
+			for (int child = 1; child < states; child++) {
+				edgeStart[parent[child] + 1]++;
+			}
+			for (int state = 0; state < states; state++) {
+				edgeStart[state + 1] += edgeStart[state];
+			}
+			edgeSymbol = new int[states - 1];
+			edgeTo = new int[states - 1];
+			int[] fill = Arrays.copyOf(edgeStart, states);
+			for (int child = 1; child < states; child++) {
+				int e = fill[parent[child]]++;
+				edgeSymbol[e] = symbolOf[child];
+				edgeTo[e] = child;
+			}
+			for (int state = 0; state < states; state++) {
+				sortEdges(edgeStart[state], edgeStart[state + 1]);
+			}
+
+			// breadth first: a child fails to where its parent's failure state
+			// goes on the same symbol
+			int head = 0;
+			int tail = 0;
+			order[tail++] = 0;
+			while (head < tail) {
+				int state = order[head++];
+				for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+					int child = edgeTo[e];
+					fail[child] = state == 0 ? 0 : this.step(fail[state], edgeSymbol[e]);
+					order[tail++] = child;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param keys
+	 *            is an open-addressed table whose length is a power of two,
+	 *            -1 marking a free slot
+	 * @return returns the slot of key, or the free slot where it would go
+	 */
+	private static int hashSlot(long[] keys, long key) {
+		int mask = keys.length - 1;
+		// the top bits of the product are the best mixed ones
+		int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.numberOfLeadingZeros(keys.length) + 1));
+		while (keys[slot] != -1 && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Sort the edges from lo to hi by symbol, they belong to one state.
+	 */
+	private void sortEdges(int lo, int hi) {
+		// O(E log E) where E is the number of edges
+		if (hi - lo < 2) {
+			return;
+		}
+		long[] packed = new long[hi - lo];
+		for (int e = lo; e < hi; e++) {
+			packed[e - lo] = ((long) edgeSymbol[e] << 32) | edgeTo[e];
+		}
+		Arrays.sort(packed);
+		for (int e = lo; e < hi; e++) {
+			edgeSymbol[e] = (int) (packed[e - lo] >>> 32);
+			edgeTo[e] = (int) packed[e - lo];
+		}
+	}
+
+	/**
+	 * @param state
+	 *            is the state the automaton is in
+	 * @param symbol
+	 *            is the symbol read
+	 * @return returns the state after reading symbol
+	 */
+	private int step(int state, int symbol) {
+		// O(1) with the full table, otherwise O(log A) per failure link followed
+		if (next != null) {
+			return next[state * alphabet + symbol];
+		}
+		while (true) {
+			int lo = edgeStart[state];
+			int hi = edgeStart[state + 1] - 1;
+			while (lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				if (edgeSymbol[mid] < symbol) {
+					lo = mid + 1;
+				} else if (edgeSymbol[mid] > symbol) {
+					hi = mid - 1;
+				} else {
+					return edgeTo[mid];
+				}
+			}
+			if (state == 0) {
+				return 0;
+			}
+			state = fail[state];
+		}
+	}
+
+	/**
+	 * @param text
+	 *            is the string to search
+	 * @return returns the number of occurrences of each pattern in text, in
+	 *         the order the patterns were given
+	 */
+	public int[] count(String text) {
+		// O(N + S + P) where N is the length of text, S the number of states
+		// and P the number of patterns, O(N log A + S + P) without the full
+		// table
+		int[] visits = new int[fail.length];
+		int state = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			int symbol = ch < symbols.length ? symbols[ch] : -1;
+			if (symbol < 0) {
+				state = 0;
+			} else if (next != null) {
+				state = next[state * alphabet + symbol];
+			} else {
+				state = this.step(state, symbol);
+			}
+			visits[state]++;
+		}
+		// every visit to a state is also an occurrence of each of its suffix
+		// states, so push the visits down the failure links, deepest first
+		for (int k = order.length - 1; k > 0; k--) {
+			visits[fail[order[k]]] += visits[order[k]];
+		}
+		int[] counts = new int[terminal.length];
+		for (int k = 0; k < terminal.length; k++) {
+			// the empty pattern matches at every position, ends included
+			counts[k] = lengths[k] == 0 ? text.length() + 1 : visits[terminal[k]];
+		}
+		return counts;
+	}
+
+	public static void main(String[] args) {
+		AhoCorasick ac = new AhoCorasick(new String[] { "aaa", "ab", "aab", "232", "hello", "", "aaa" });
+		int[] counts = ac.count("aaaaaaaaa");
+		if (counts[0] == 7 && counts[1] == 0 && counts[5] == 10 && counts[6] == 7) {
+			System.out.println("Yay 1");
+		}
+		counts = ac.count("helloabchelloddefzdfjhello23232aab");
+		if (counts[4] == 3 && counts[3] == 2 && counts[2] == 1 && counts[1] == 2 && counts[0] == 0) {
+			System.out.println("Yay 2");
+		}
+
+		// 6000 one character patterns over 6000 characters are too many for
+		// the full table, so the edges are searched instead
+		String[] wide = new String[6003];
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 6000; i++) {
+			wide[i] = String.valueOf((char) (0x4E00 + i));
+			text.append(wide[i]).append(wide[i / 2]);
+		}
+		wide[6000] = wide[1] + wide[0];
+		wide[6001] = wide[0] + wide[0] + wide[1];
+		wide[6002] = wide[0] + wide[1];
+		ac = new AhoCorasick(wide);
+		counts = ac.count(text.toString());
+		boolean ok = ac.next == null;
+		for (int k = 0; k < wide.length; k++) {
+			int naive = 0;
+			for (int at = text.indexOf(wide[k]); at >= 0; at = text.indexOf(wide[k], at + 1)) {
+				naive++;
+			}
+			ok = ok && counts[k] == naive;
+		}
+		if (ok && counts[6000] == 1 && counts[6001] == 1 && counts[6002] == 1 && counts[0] == 3) {
+			System.out.println("Yay 3");
+		}
+	}
+}
@@ -0,0 +1,469 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid stored column by column. Each column is one contiguous array, so
+ * inserting or removing a column only moves column references and scanning a column is sequential.
+ */
+public class ColumnGrid<T> implements Grid<T> {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of each axis
+	private Object[][] cols; // underlying storage, cell (r, c) lives at cols[c][r]
+	private int rowCap; // the length of every column array
+	private int numRow = 0;
+	private int numCol = 0;
+
+	public ColumnGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this(INITCAP, INITCAP);
+	}
+
+	/**
+	 * @param rowCapacity
+	 *            is how many rows the grid can hold before growing
+	 * @param colCapacity
+	 *            is how many columns the grid can hold before growing
+	 */
+	public ColumnGrid(int rowCapacity, int colCapacity) {
+		// constructor
+		// throw IllegalArgumentException if either capacity < 1
+		if (rowCapacity < 1 || colCapacity < 1) {
+			throw new IllegalArgumentException("Grid cannot be smaller than 1x1!");
+		}
+		this.rowCap = rowCapacity;
+		this.cols = new Object[colCapacity][];
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to be returned
+	 * @param indexCol
+	 *            is the column index of the value to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is less than 0 or greater than or
+	 *             equal to the number of rows or columns
+	 * @return returns the value at the row and column indices
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int indexRow, int indexCol) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return (T) cols[indexCol][indexRow];
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to replace
+	 * @param indexCol
+	 *            is the column index of the value to replace
+	 * @param value
+	 *            is the value to put in the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is less than 0 or greater than or
+	 *             equal to the number of rows or columns
+	 * @return returns the old value of the cell
+	 */
+	@SuppressWarnings("unchecked")
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Object[] col = cols[indexCol];
+		T oldItem = (T) col[indexRow];
+		col[indexRow] = value;
+		return oldItem;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index of the grid where the new row will be added
+	 * @param newRow
+	 *            is the new row that will be added to the grid
+	 * @return returns true if the row was added
+	 */
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// amortized O((R-index)C) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			if (newRow.size() > cols.length) {
+				cols = Arrays.copyOf(cols, newRow.size());
+			}
+			for (int c = 0; c < newRow.size(); c++) {
+				cols[c] = new Object[rowCap];
+			}
+			numCol = newRow.size();
+		} else if (newRow.size() != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		// double the length of every column if no space is available
+		if (numRow == rowCap) {
+			this.resizeRows(rowCap * 2);
+		}
+		for (int c = 0; c < numCol; c++) {
+			Object[] col = cols[c];
+			System.arraycopy(col, index, col, index + 1, numRow - index);
+			col[index] = newRow.get(c);
+		}
+		numRow++;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index of the grid where the new column will be
+	 *            added
+	 * @param newCol
+	 *            is the new column that will be added to the grid
+	 * @return returns true if the column was added
+	 */
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// amortized O(R + C) where R is the number of rows and C is the number
+		// of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0 || newCol.size() != numRow) {
+			return false;
+		}
+		Object[] col = new Object[rowCap];
+		for (int r = 0; r < numRow; r++) {
+			col[r] = newCol.get(r);
+		}
+		// double the column capacity if no space is available
+		if (numCol == cols.length) {
+			cols = Arrays.copyOf(cols, cols.length * 2);
+		}
+		// shift the column references right, the cells themselves stay put
+		System.arraycopy(cols, index, cols, index + 1, numCol - index);
+		cols[index] = col;
+		numCol++;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number of
+	 *             rows
+	 * @return returns the row that was removed from the grid
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeRow(int index) {
+		// O((R-index)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int c = 0; c < numCol; c++) {
+			Object[] col = cols[c];
+			oldRow.add((T) col[index]);
+			System.arraycopy(col, index + 1, col, index, numRow - index - 1);
+			col[numRow - 1] = null;
+		}
+		numRow--;
+		if (numRow == 0) {
+			// a grid with no rows has no columns either
+			Arrays.fill(cols, 0, numCol, null);
+			numCol = 0;
+		} else if (numRow < rowCap / 3.0 && rowCap / 2 >= INITCAP) {
+			// halve the column length if fewer than 1/3 of the rows are used
+			this.resizeRows(rowCap / 2);
+		}
+		return oldRow;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number of
+	 *             columns
+	 * @return returns the column that was removed from the grid
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeCol(int index) {
+		// O(R + C) where R is the number of rows and C is the number of columns
+		// of the grid
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Object[] col = cols[index];
+		DynamicArray<T> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			oldCol.add((T) col[r]);
+		}
+		// shift the column references left to remove the gap
+		System.arraycopy(cols, index + 1, cols, index, numCol - index - 1);
+		numCol--;
+		cols[numCol] = null;
+		return oldCol;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// amortized O((R-index+K)C) where K is the number of new rows, R is
+		// the number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		int count = newRows.size();
+		int length = numRow == 0 && count != 0 ? newRows.get(0).size() : numCol;
+		for (int k = 0; k < count; k++) {
+			if (newRows.get(k).size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+		}
+		if (numRow == 0) {
+			// the first rows decide how many columns the grid has
+			if (length > cols.length) {
+				cols = Arrays.copyOf(cols, length);
+			}
+			for (int c = 0; c < length; c++) {
+				cols[c] = new Object[rowCap];
+			}
+			numCol = length;
+		}
+		// double the length of every column as often as needed, but copy once
+		if (numRow + count > rowCap) {
+			int newRowCap = rowCap;
+			while (newRowCap < numRow + count) {
+				newRowCap *= 2;
+			}
+			this.resizeRows(newRowCap);
+		}
+		for (int c = 0; c < numCol; c++) {
+			Object[] col = cols[c];
+			System.arraycopy(col, index, col, index + count, numRow - index);
+			for (int k = 0; k < count; k++) {
+				col[index + k] = newRows.get(k).get(c);
+			}
+		}
+		numRow += count;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+		// amortized O(KR + C) where K is the number of new columns, R is the
+		// number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0) {
+			return false;
+		}
+		int count = newCols.size();
+		for (int k = 0; k < count; k++) {
+			if (newCols.get(k).size() != numRow) {
+				return false;
+			}
+		}
+		// double the column capacity as often as needed, but copy once
+		if (numCol + count > cols.length) {
+			int newColCap = cols.length;
+			while (newColCap < numCol + count) {
+				newColCap *= 2;
+			}
+			cols = Arrays.copyOf(cols, newColCap);
+		}
+		// shift the column references right once, the cells stay put
+		System.arraycopy(cols, index, cols, index + count, numCol - index);
+		for (int k = 0; k < count; k++) {
+			Object[] col = new Object[rowCap];
+			for (int r = 0; r < numRow; r++) {
+				col[r] = newCols.get(k).get(r);
+			}
+			cols[index + k] = col;
+		}
+		numCol += count;
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	@Override
+	public void removeRows(int from, int to) {
+		// O((R-from)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (from < 0 || to > numRow || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int count = to - from;
+		for (int c = 0; c < numCol; c++) {
+			Object[] col = cols[c];
+			System.arraycopy(col, to, col, from, numRow - to);
+			Arrays.fill(col, numRow - count, numRow, null);
+		}
+		numRow -= count;
+		if (numRow == 0) {
+			// a grid with no rows has no columns either
+			Arrays.fill(cols, 0, numCol, null);
+			numCol = 0;
+		} else {
+			// halve the column length as often as removeRow would, but copy
+			// once
+			int newRowCap = rowCap;
+			while (numRow < newRowCap / 3.0 && newRowCap / 2 >= INITCAP) {
+				newRowCap /= 2;
+			}
+			if (newRowCap != rowCap) {
+				this.resizeRows(newRowCap);
+			}
+		}
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	@Override
+	public void removeCols(int from, int to) {
+		// O(C) where C is the number of columns of the grid
+		if (from < 0 || to > numCol || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// shift the column references left once to remove the gap
+		System.arraycopy(cols, to, cols, from, numCol - to);
+		Arrays.fill(cols, numCol - (to - from), numCol, null);
+		numCol -= to - from;
+	}
+
+	/**
+	 * @param newRowCap
+	 *            is the new length of every column, at least the number of rows
+	 */
+	private void resizeRows(int newRowCap) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		for (int c = 0; c < numCol; c++) {
+			cols[c] = Arrays.copyOf(cols[c], newRowCap);
+		}
+		rowCap = newRowCap;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(cols[c][r]).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		ColumnGrid<String> sgrid = new ColumnGrid<>();
+		DynamicArray<String> srow = new DynamicArray<>();
+		srow.add("English");
+		srow.add("Spanish");
+		srow.add("German");
+		if (sgrid.getNumRow() == 0 && sgrid.getNumCol() == 0 && sgrid.addRow(0, srow) && sgrid.getNumRow() == 1
+				&& sgrid.getNumCol() == 3) {
+			System.out.println("Yay 1");
+		}
+
+		if (sgrid.get(0, 0).equals("English") && sgrid.set(0, 1, "Espano").equals("Spanish")
+				&& sgrid.get(0, 1).equals("Espano")) {
+			System.out.println("Yay 2");
+		}
+
+		ColumnGrid<Integer> igrid = new ColumnGrid<>();
+		boolean ok = true;
+		for (int i = 0; i < 3; i++) {
+			DynamicArray<Integer> irow = new DynamicArray<>();
+			irow.add((i + 1) * 10);
+			ok = ok && igrid.addRow(igrid.getNumRow(), irow);
+		}
+		if (ok && igrid.getNumRow() == 3 && igrid.getNumCol() == 1 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 3");
+		}
+
+		DynamicArray<Integer> icol = new DynamicArray<>();
+		icol.add(-10);
+		icol.add(-20);
+		ok = igrid.addCol(1, icol);
+		icol.add(-30);
+		if (!ok && igrid.addCol(1, icol) && igrid.getNumRow() == 3 && igrid.getNumCol() == 2) {
+			System.out.println("Yay 4");
+		}
+
+		DynamicArray<Integer> irow = new DynamicArray<>();
+		irow.add(5);
+		irow.add(10);
+		if (!igrid.addRow(5, irow) && igrid.addRow(0, irow) && igrid.getNumRow() == 4 && igrid.get(0, 0) == 5
+				&& igrid.get(3, 1) == -30) {
+			System.out.println("Yay 5");
+		}
+
+		irow = igrid.removeCol(1);
+		if (igrid.getNumRow() == 4 && igrid.getNumCol() == 1 && irow.get(0) == 10 && igrid.get(0, 0) == 5
+				&& igrid.get(2, 0) == 20) {
+			System.out.println("Yay 6");
+		}
+
+		irow = igrid.removeRow(0);
+		if (igrid.getNumRow() == 3 && irow.get(0) == 5 && igrid.get(0, 0) == 10 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 7");
+		}
+	}
+
+}
@@ -0,0 +1,209 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class remembers the results of Combiner calls so that combining the same two operands with the
+ * same combiner again is a lookup instead of a new calculation. It holds at most a fixed number of results
+ * and evicts the least recently used one when it is full.
+ * <p>
+ * Results are kept per combiner instance, so two lambdas or two differently configured combiners never
+ * read each other's results. A cache made with shareByClass instead treats every combiner as a pure
+ * function of its class, which lets a Table that goes back to an earlier operation reuse its old cells
+ * even through a new instance; only use it when every combiner it sees is stateless.
+ */
+public class CombineCache {
+
+	/**
+	 * The (combiner, operand1, operand2) triple a result is stored under. The
+	 * combiner is compared by identity, it is either the instance or its
+	 * class.
+	 */
+	private static final class Key {
+		private final Object op;
+		private final Object operand1;
+		private final Object operand2;
+		private final int hash;
+
+		Key(Object op, Object operand1, Object operand2) {
+			this.op = op;
+			this.operand1 = operand1;
+			this.operand2 = operand2;
+			this.hash = (System.identityHashCode(op) * 31 + Objects.hashCode(operand1)) * 31
+					+ Objects.hashCode(operand2);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key k = (Key) o;
+			return hash == k.hash && op == k.op && Objects.equals(operand1, k.operand1)
+					&& Objects.equals(operand2, k.operand2);
+		}
+	}
+
+	// stands in for a cached null result so it can be told apart from a miss
+	private static final Object NULL = new Object();
+
+	private final int maxEntries; // how many results are kept before evicting
+	private final boolean shareByClass; // true if instances of one combiner class share results
+	private final LinkedHashMap<Key, Object> entries; // kept in least to most recently used order
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @param maxEntries
+	 *            is the most results the cache keeps
+	 * @throws IllegalArgumentException
+	 *             if maxEntries is less than 1
+	 */
+	public CombineCache(int maxEntries) {
+		// constructor
+		this(maxEntries, false);
+	}
+
+	/**
+	 * @param maxEntries
+	 *            is the most results the cache keeps
+	 * @param shareByClass
+	 *            is true to let every instance of a combiner class share
+	 *            results, which is only correct if those combiners are
+	 *            stateless, false to keep results per instance
+	 * @throws IllegalArgumentException
+	 *             if maxEntries is less than 1
+	 */
+	public CombineCache(int maxEntries, boolean shareByClass) {
+		// constructor
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("Cache cannot be smaller than 1!");
+		}
+		this.maxEntries = maxEntries;
+		this.shareByClass = shareByClass;
+		this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				if (size() > CombineCache.this.maxEntries) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @param op
+	 *            is the combiner to use on a miss
+	 * @param operand1
+	 *            first operand
+	 * @param operand2
+	 *            second operand
+	 * @return returns the cached result of op.combine(operand1, operand2),
+	 *         calculating and caching it first on a miss
+	 */
+	@SuppressWarnings("unchecked")
+	public <A, B, C> C combine(Combiner<A, B, C> op, A operand1, B operand2) {
+		// O(1) on a hit, O(1) plus one combine on a miss
+		Key key = new Key(shareByClass ? op.getClass() : op, operand1, operand2);
+		Object value;
+		synchronized (this) {
+			value = entries.get(key);
+			if (value != null) {
+				hits++;
+				return value == NULL ? null : (C) value;
+			}
+			misses++;
+		}
+		// combine outside the lock so parallel callers only wait on lookups
+		C result = op.combine(operand1, operand2);
+		synchronized (this) {
+			entries.put(key, result == null ? NULL : result);
+		}
+		return result;
+	}
+
+	/**
+	 * @return returns how many combine calls were answered from the cache
+	 */
+	public synchronized long hits() {
+		return hits;
+	}
+
+	/**
+	 * @return returns how many combine calls had to be calculated
+	 */
+	public synchronized long misses() {
+		return misses;
+	}
+
+	/**
+	 * @return returns how many results were evicted to make room
+	 */
+	public synchronized long evictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return returns how many results are cached right now
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Forget every cached result, the counters are kept.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CombineCache[size=" + entries.size() + "/" + maxEntries + ", hits=" + hits + ", misses=" + misses
+				+ ", evictions=" + evictions + "]";
+	}
+
+	public static void main(String[] args) {
+		CombineCache cache = new CombineCache(2);
+		IntegerAdder adder = new IntegerAdder();
+		if (cache.combine(adder, 1, 2) == 3 && cache.combine(adder, 1, 2) == 3 && cache.hits() == 1
+				&& cache.misses() == 1) {
+			System.out.println("Yay 1");
+		}
+
+		if (cache.combine(new IntegerTimer(), 1, 2) == 2 && cache.combine(adder, 2, 2) == 4 && cache.evictions() == 1
+				&& cache.size() == 2 && cache.combine(adder, 1, 2) == 3 && cache.misses() == 4) {
+			System.out.println("Yay 2");
+		}
+
+		MemoCombiner<String, String, String> memo = new MemoCombiner<>(new StringAdder(), cache);
+		if (memo.combine("red", "apple").equals("red apple") && memo.combine("red", "apple").equals("red apple")
+				&& cache.hits() == 2) {
+			System.out.println("Yay 3");
+		}
+
+		// two lambdas of one class that capture different values
+		CombineCache lambdas = new CombineCache(10);
+		int[] offsets = { 1, 100 };
+		Combiner<Integer, Integer, Integer> plusOne = (a, b) -> a + b + offsets[0];
+		Combiner<Integer, Integer, Integer> plusHundred = (a, b) -> a + b + offsets[1];
+		CombineCache classes = new CombineCache(10, true);
+		if (lambdas.combine(plusOne, 1, 2) == 4 && lambdas.combine(plusHundred, 1, 2) == 103
+				&& classes.combine(adder, 1, 2) == 3 && classes.combine(new IntegerAdder(), 1, 2) == 3
+				&& classes.hits() == 1) {
+			System.out.println("Yay 4");
+		}
+	}
+
+}
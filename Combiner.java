@@ -22,4 +22,32 @@ public interface Combiner<A,B,C>{
 	 */
 	public C combine(A operand1, B operand2);
 
+	/**
+	 * Combine one first operand with every second operand, in order, and
+	 * append the results to dest. Override this with a tighter loop when the
+	 * combiner can do better than one combine call per result.
+	 * @param operand1 first operand of every combination
+	 * @param operands2 second operands, one result is appended for each
+	 * @param dest where the results are appended
+	 */
+	public default void combineRow(A operand1, DynamicArray<B> operands2, DynamicArray<C> dest) {
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(combine(operand1, operands2.get(i)));
+		}
+	}
+
+	/**
+	 * Combine every first operand, in order, with one second operand and
+	 * append the results to dest. Override this with a tighter loop when the
+	 * combiner can do better than one combine call per result.
+	 * @param operands1 first operands, one result is appended for each
+	 * @param operand2 second operand of every combination
+	 * @param dest where the results are appended
+	 */
+	public default void combineCol(DynamicArray<A> operands1, B operand2, DynamicArray<C> dest) {
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(combine(operands1.get(i), operand2));
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is a CharSequence of two character sequences joined by a separator that is never built. It
+ * only references its parts, so a table of these cells shares the header strings instead of holding a
+ * copy of them in every cell, and the characters are only copied out by toString or subSequence.
+ */
+public class ConcatString implements CharSequence {
+
+	private final CharSequence left; // the characters before the separator
+	private final String separator; // the characters between left and right
+	private final CharSequence right; // the characters after the separator
+	private int hash; // cached hashCode, 0 until first computed
+
+	/**
+	 * @param left
+	 *            is the first part
+	 * @param separator
+	 *            is what goes between the parts
+	 * @param right
+	 *            is the last part
+	 * @throws IllegalArgumentException
+	 *             if the joined length would not fit in an int
+	 */
+	public ConcatString(CharSequence left, String separator, CharSequence right) {
+		// O(1)
+		if ((long) left.length() + separator.length() + right.length() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Concatenated string is too long!");
+		}
+		this.left = left;
+		this.separator = separator;
+		this.right = right;
+	}
+
+	/**
+	 * @return returns the number of characters in the sequence
+	 */
+	public int length() {
+		// O(1) when the parts are
+		return left.length() + separator.length() + right.length();
+	}
+
+	/**
+	 * @param index
+	 *            is the position of the character
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least length()
+	 * @return returns the character at index
+	 */
+	public char charAt(int index) {
+		// O(1) when the parts are
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		if (index < left.length()) {
+			return left.charAt(index);
+		}
+		index -= left.length();
+		if (index < separator.length()) {
+			return separator.charAt(index);
+		}
+		index -= separator.length();
+		if (index < right.length()) {
+			return right.charAt(index);
+		}
+		throw new IndexOutOfBoundsException("Index out of bounds!");
+	}
+
+	/**
+	 * @param start
+	 *            is the first index of the subsequence
+	 * @param end
+	 *            is the index after the last index of the subsequence
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not inside the sequence
+	 * @return returns the characters from start to end as a String
+	 */
+	public CharSequence subSequence(int start, int end) {
+		// O(end - start)
+		if (start < 0 || end > this.length() || start > end) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		StringBuilder sb = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			sb.append(this.charAt(i));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return returns the joined string, built in one presized buffer
+	 */
+	@Override
+	public String toString() {
+		// O(length())
+		return new StringBuilder(this.length()).append(left).append(separator).append(right).toString();
+	}
+
+	/**
+	 * @param s
+	 *            is the sequence to compare with, for example a String
+	 * @return returns true if s has exactly the same characters
+	 */
+	public boolean contentEquals(CharSequence s) {
+		// O(length())
+		if (s.length() != this.length()) {
+			return false;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			if (this.charAt(i) != s.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param o
+	 *            is the object to compare with
+	 * @return returns true if o is a ConcatString with the same characters,
+	 *         use contentEquals to compare with a String
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ConcatString)) {
+			return false;
+		}
+		ConcatString other = (ConcatString) o;
+		if (left.equals(other.left) && separator.equals(other.separator) && right.equals(other.right)) {
+			return true;
+		}
+		return this.contentEquals(other);
+	}
+
+	/**
+	 * @return returns the same hash code as toString().hashCode() without
+	 *         building the string
+	 */
+	@Override
+	public int hashCode() {
+		// O(length()) the first time, then O(1)
+		int h = hash;
+		if (h == 0) {
+			for (int i = 0; i < this.length(); i++) {
+				h = 31 * h + this.charAt(i);
+			}
+			hash = h;
+		}
+		return h;
+	}
+
+	public static void main(String[] args) {
+		ConcatString cs = new ConcatString("george", " ", "mason");
+		if (cs.length() == 12 && cs.charAt(6) == ' ' && cs.charAt(7) == 'm' && cs.toString().equals("george mason")
+				&& cs.subSequence(4, 8).toString().equals("ge m") && cs.hashCode() == "george mason".hashCode()) {
+			System.out.println("Yay 1");
+		}
+		if (cs.equals(new ConcatString("george ", "", "mason")) && !cs.equals(new ConcatString("george", " ", "mas"))
+				&& cs.contentEquals("george mason")) {
+			System.out.println("Yay 2");
+		}
+	}
+}
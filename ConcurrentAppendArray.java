@@ -0,0 +1,157 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is an append-only dynamic array that many threads can add to at once without locking. Elements
+ * live in buckets that double in size (16, 32, 64, ...), so growing allocates one new bucket and never copies
+ * what is already stored. An add claims its slot with one atomic increment and publishes the value with a
+ * volatile write; a get is a few arithmetic steps and a volatile read. Null elements are not allowed, since
+ * null marks a slot that has been claimed but not yet published.
+ */
+public class ConcurrentAppendArray<T> {
+
+	private static final int FIRST = 16; // size of bucket 0, a power of two
+	private static final int SHIFT = 4; // log2(FIRST)
+	private static final int BUCKETS = 27; // bucket 26 ends just below Integer.MAX_VALUE
+	private static final int MAX_SIZE = FIRST * ((1 << BUCKETS) - 1); // most elements that fit
+
+	private final AtomicReferenceArray<AtomicReferenceArray<T>> buckets = new AtomicReferenceArray<>(BUCKETS);
+	private final AtomicInteger claimed = new AtomicInteger(); // slots handed out, published or not
+
+	/**
+	 * @param value
+	 *            is the element to append
+	 * @throws NullPointerException
+	 *             if value is null
+	 * @throws IllegalStateException
+	 *             if the array is full
+	 * @return returns the index the value was stored at
+	 */
+	public int add(T value) {
+		// O(1), lock-free
+		if (value == null) {
+			throw new NullPointerException("Cannot add null!");
+		}
+		int index = claimed.getAndIncrement();
+		if (index < 0 || index >= MAX_SIZE) {
+			// keep the counter from wrapping around and handing out slots again
+			claimed.set(MAX_SIZE);
+			throw new IllegalStateException("Array is full!");
+		}
+		int bucket = bucketOf(index);
+		AtomicReferenceArray<T> slots = buckets.get(bucket);
+		if (slots == null) {
+			// everyone who finds the bucket missing races to install one, the
+			// losers drop theirs and use the winner's
+			buckets.compareAndSet(bucket, null, new AtomicReferenceArray<>(FIRST << bucket));
+			slots = buckets.get(bucket);
+		}
+		slots.set(index - startOf(bucket), value);
+		return index;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to return
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns the element at index, or null if the thread adding it
+	 *         has claimed the slot but not stored the value yet
+	 */
+	public T get(int index) {
+		// O(1), wait-free
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int bucket = bucketOf(index);
+		AtomicReferenceArray<T> slots = buckets.get(bucket);
+		return slots == null ? null : slots.get(index - startOf(bucket));
+	}
+
+	/**
+	 * @return returns the number of slots claimed so far, some of the last
+	 *         ones may not be published yet
+	 */
+	public int size() {
+		// O(1)
+		return Math.min(claimed.get(), MAX_SIZE);
+	}
+
+	/**
+	 * @return returns a DynamicArray holding the elements published so far, up
+	 *         to the first slot that is still empty
+	 */
+	public DynamicArray<T> toDynamicArray() {
+		// O(N) where N is the number of elements
+		int n = this.size();
+		DynamicArray<T> copy = new DynamicArray<>(Math.max(1, n));
+		for (int i = 0; i < n; i++) {
+			T value = this.get(i);
+			if (value == null) {
+				break;
+			}
+			copy.add(value);
+		}
+		return copy;
+	}
+
+	/**
+	 * @param index
+	 *            is a valid index
+	 * @return returns the bucket index lives in
+	 */
+	private static int bucketOf(int index) {
+		// bucket b holds indices [FIRST(2^b - 1), FIRST(2^(b+1) - 1))
+		return 31 - Integer.numberOfLeadingZeros((index >>> SHIFT) + 1);
+	}
+
+	/**
+	 * @param bucket
+	 *            is a bucket number
+	 * @return returns the index of the first element of bucket
+	 */
+	private static int startOf(int bucket) {
+		return FIRST * ((1 << bucket) - 1);
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		ConcurrentAppendArray<Integer> carr = new ConcurrentAppendArray<>();
+		for (int i = 0; i < 100; i++) {
+			carr.add(i);
+		}
+		if (carr.size() == 100 && carr.get(0) == 0 && carr.get(15) == 15 && carr.get(16) == 16 && carr.get(99) == 99
+				&& bucketOf(MAX_SIZE - 1) == BUCKETS - 1) {
+			System.out.println("Yay 1");
+		}
+
+		// four producers add disjoint values, every one of them must be there
+		// exactly once afterwards
+		ConcurrentAppendArray<Integer> shared = new ConcurrentAppendArray<>();
+		Thread[] producers = new Thread[4];
+		for (int t = 0; t < producers.length; t++) {
+			final int base = t * 100000;
+			producers[t] = new Thread(() -> {
+				for (int k = 0; k < 100000; k++) {
+					shared.add(base + k);
+				}
+			});
+			producers[t].start();
+		}
+		for (Thread p : producers) {
+			p.join();
+		}
+		boolean[] seen = new boolean[400000];
+		boolean ok = shared.size() == 400000 && shared.toDynamicArray().size() == 400000;
+		for (int i = 0; i < shared.size(); i++) {
+			int v = shared.get(i);
+			ok = ok && !seen[v];
+			seen[v] = true;
+		}
+		if (ok) {
+			System.out.println("Yay 2");
+		}
+	}
+}
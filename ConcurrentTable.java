@@ -0,0 +1,368 @@
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class wraps a Table so it can be shared between threads. Reads of cells and headers are optimistic:
+ * they run without locking and are only retried under the read lock if a write happened at the same time,
+ * so readers never block each other or wait behind a write that has already finished. Every method that
+ * changes the table takes the write lock.
+ */
+public class ConcurrentTable<RowType, ColType, CellType, OpType extends Combiner<RowType, ColType, CellType>> {
+
+	private final Table<RowType, ColType, CellType, OpType> table; // only touched under lock or validated
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 */
+	public ConcurrentTable(OpType op) {
+		this.table = new Table<>(op);
+	}
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 * @param board
+	 *            an empty grid that picks the cell layout
+	 * @throws IllegalArgumentException
+	 *             if board already has rows or columns
+	 */
+	public ConcurrentTable(OpType op, Grid<CellType> board) {
+		this.table = new Table<>(op, board);
+	}
+
+	/**
+	 * @return returns the the number of rows in the board
+	 */
+	public int getSizeRow() {
+		// O(1)
+		long stamp = lock.tryOptimisticRead();
+		int size = table.getSizeRow();
+		if (lock.validate(stamp)) {
+			return size;
+		}
+		stamp = lock.readLock();
+		try {
+			return table.getSizeRow();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return returns the the number of columns in the board
+	 */
+	public int getSizeCol() {
+		// O(1)
+		long stamp = lock.tryOptimisticRead();
+		int size = table.getSizeCol();
+		if (lock.validate(stamp)) {
+			return size;
+		}
+		stamp = lock.readLock();
+		try {
+			return table.getSizeCol();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @param r
+	 *            the index of the row
+	 * @throws IndexOutOfBoundsException
+	 *             if r is out of range
+	 * @return returns the row label of row r
+	 */
+	public RowType getRowHead(int r) {
+		// O(1)
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				RowType head = table.getRowHead(r);
+				if (lock.validate(stamp)) {
+					return head;
+				}
+			} catch (RuntimeException e) {
+				// a write moved the storage under us, retry under the lock
+				// where the exception, if any, is real
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return table.getRowHead(r);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @param c
+	 *            the index of the column
+	 * @throws IndexOutOfBoundsException
+	 *             if c is out of range
+	 * @return returns the column label of column c
+	 */
+	public ColType getColHead(int c) {
+		// O(1)
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				ColType head = table.getColHead(c);
+				if (lock.validate(stamp)) {
+					return head;
+				}
+			} catch (RuntimeException e) {
+				// a write moved the storage under us, retry under the lock
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return table.getColHead(c);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @param r
+	 *            the index of the row
+	 * @param c
+	 *            the index of the column
+	 * @throws IndexOutOfBoundsException
+	 *             if r or c is out of range
+	 * @return returns the contents of the cell at row r and column c
+	 */
+	public CellType getCell(int r, int c) {
+		// O(1)
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				CellType cell = table.getCell(r, c);
+				if (lock.validate(stamp)) {
+					return cell;
+				}
+			} catch (RuntimeException e) {
+				// a write moved the storage under us, retry under the lock
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return table.getCell(r, c);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 */
+	public void setOp(OpType op) {
+		// O(CR) where C is the number of columns and R is the number of rows
+		long stamp = lock.writeLock();
+		try {
+			table.setOp(op);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param cache
+	 *            the cache to look combine results up in, or null
+	 */
+	public void setCache(CombineCache cache) {
+		// O(1)
+		long stamp = lock.writeLock();
+		try {
+			table.setCache(cache);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the row and row head
+	 * @param v
+	 *            the row label to insert in the row head
+	 * @return returns true if row is able to be added
+	 */
+	public boolean addRow(int i, RowType v) {
+		// O(C+R) where R is the number of rows and C is the number of columns
+		long stamp = lock.writeLock();
+		try {
+			return table.addRow(i, v);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the column and the
+	 *            column head
+	 * @param v
+	 *            the column label to insert in the column head
+	 * @return returns true if column is able to be added
+	 */
+	public boolean addCol(int i, ColType v) {
+		// O(CR) where R is the number of rows and C is the number of columns
+		long stamp = lock.writeLock();
+		try {
+			return table.addCol(i, v);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of rows
+	 * @return returns old value of row head of removed row
+	 */
+	public RowType removeRow(int i) {
+		// O(R) where R is the number of rows
+		long stamp = lock.writeLock();
+		try {
+			return table.removeRow(i);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of columns
+	 * @return returns old value of column head of removed column
+	 */
+	public ColType removeCol(int i) {
+		// O(CR) where R is the number of rows and C is the number of columns
+		long stamp = lock.writeLock();
+		try {
+			return table.removeCol(i);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which row and row head to replace
+	 * @param v
+	 *            the row label to insert in the row head
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of rows
+	 * @return returns old value of row head of replaced row
+	 */
+	public RowType setRow(int i, RowType v) {
+		// O(C) where C is the number of columns
+		long stamp = lock.writeLock();
+		try {
+			return table.setRow(i, v);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which column and column head to
+	 *            replace
+	 * @param v
+	 *            the column label to insert in the column head
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of columns
+	 * @return returns old value of column head of replaced column
+	 */
+	public ColType setCol(int i, ColType v) {
+		// O(R) where R is the number of rows
+		long stamp = lock.writeLock();
+		try {
+			return table.setCol(i, v);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @return returns a consistent read-only copy of the table that can be
+	 *         read without any locking while writers keep going
+	 */
+	public Table<RowType, ColType, CellType, OpType> snapshot() {
+		// O(1) when the board is a CowGrid, the write lock is only held that
+		// long
+		long stamp = lock.writeLock();
+		try {
+			return table.snapshot();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public String toString() {
+		long stamp = lock.readLock();
+		try {
+			return table.toString();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		ConcurrentTable<Integer, Integer, Integer, IntegerComb> ctable = new ConcurrentTable<>(new IntegerAdder(),
+				new FlatGrid<Integer>());
+		for (int i = 0; i < 50; i++) {
+			ctable.addRow(i, i);
+			ctable.addCol(i, i * 1000);
+		}
+		if (ctable.getSizeRow() == 50 && ctable.getSizeCol() == 50 && ctable.getCell(3, 4) == 4003) {
+			System.out.println("Yay 1");
+		}
+
+		// a writer keeps adding and removing the last column while readers
+		// check that every cell they see matches its headers
+		final boolean[] bad = new boolean[1];
+		Thread writer = new Thread(() -> {
+			for (int k = 0; k < 2000; k++) {
+				ctable.addCol(50, -1);
+				ctable.removeCol(50);
+			}
+		});
+		Thread[] readers = new Thread[3];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				for (int k = 0; k < 200000; k++) {
+					int r = k % 50;
+					int c = (k * 7) % 50;
+					if (ctable.getCell(r, c) != r + c * 1000 || ctable.getColHead(c) != c * 1000) {
+						bad[0] = true;
+					}
+				}
+			});
+		}
+		writer.start();
+		for (Thread reader : readers) {
+			reader.start();
+		}
+		writer.join();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		if (!bad[0] && ctable.getSizeCol() == 50) {
+			System.out.println("Yay 2");
+		}
+	}
+}
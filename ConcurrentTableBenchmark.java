@@ -0,0 +1,113 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class measures read throughput of a shared table when many threads read cells while one thread keeps
+ * adding and removing a column. It compares one global lock around a Table with ConcurrentTable's
+ * optimistic reads, for 1 reader up to one reader per core.
+ */
+public class ConcurrentTableBenchmark {
+
+	private static final int SIZE = 512; // rows and columns of the table
+	private static final long MILLIS = 500; // how long each configuration runs
+
+	/**
+	 * The reads and writes the benchmark makes, so both tables can run the
+	 * same loop.
+	 */
+	private interface Shared {
+		Integer getCell(int r, int c);
+
+		void churn();
+	}
+
+	/**
+	 * @param shared
+	 *            is the table to read
+	 * @param readers
+	 *            is how many reader threads to run
+	 * @return returns reads per second across all readers
+	 */
+	private static double run(Shared shared, int readers) throws InterruptedException {
+		LongAdder reads = new LongAdder();
+		long deadline = System.nanoTime() + MILLIS * 1000000L;
+		Thread writer = new Thread(() -> {
+			while (System.nanoTime() < deadline) {
+				shared.churn();
+			}
+		});
+		Thread[] threads = new Thread[readers];
+		for (int t = 0; t < readers; t++) {
+			final int seed = t;
+			threads[t] = new Thread(() -> {
+				int x = seed * 7919 + 1;
+				long n = 0;
+				long sum = 0;
+				while ((n & 1023) != 0 || System.nanoTime() < deadline) {
+					// xorshift, cheap enough not to hide the read cost
+					x ^= x << 13;
+					x ^= x >>> 17;
+					x ^= x << 5;
+					sum += shared.getCell((x & 0x7fffffff) % SIZE, (x >>> 9) % SIZE);
+					n++;
+				}
+				reads.add(n + (sum == 42 ? 1 : 0));
+			});
+		}
+		long start = System.nanoTime();
+		writer.start();
+		for (Thread t : threads) {
+			t.start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		writer.join();
+		return reads.sum() / ((System.nanoTime() - start) / 1e9);
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		Table<Integer, Integer, Integer, IntegerComb> plain = new Table<>(new IntegerAdder(), new FlatGrid<Integer>());
+		ConcurrentTable<Integer, Integer, Integer, IntegerComb> optimistic = new ConcurrentTable<>(new IntegerAdder(),
+				new FlatGrid<Integer>());
+		for (int i = 0; i < SIZE; i++) {
+			plain.addRow(i, i);
+			optimistic.addRow(i, i);
+		}
+		for (int i = 0; i < SIZE; i++) {
+			plain.addCol(i, i);
+			optimistic.addCol(i, i);
+		}
+
+		Shared global = new Shared() {
+			public synchronized Integer getCell(int r, int c) {
+				return plain.getCell(r, c);
+			}
+
+			public synchronized void churn() {
+				plain.addCol(SIZE, -1);
+				plain.removeCol(SIZE);
+			}
+		};
+		Shared stamped = new Shared() {
+			public Integer getCell(int r, int c) {
+				return optimistic.getCell(r, c);
+			}
+
+			public void churn() {
+				optimistic.addCol(SIZE, -1);
+				optimistic.removeCol(SIZE);
+			}
+		};
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		System.out.println(String.format("%-10s %16s %16s", "readers", "global lock", "optimistic"));
+		for (int readers = 1; readers <= cores; readers *= 2) {
+			double a = run(global, readers);
+			double b = run(stamped, readers);
+			System.out.println(String.format("%-10d %12.1f M/s %12.1f M/s", readers, a / 1e6, b / 1e6));
+		}
+	}
+}
@@ -0,0 +1,398 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid that can hand out read-only snapshots of itself in O(1). Each row is its
+ * own chunk and remembers the epoch it was written in. Taking a snapshot only starts a new epoch, so the
+ * snapshot and the grid share every row, and the grid copies a row (and, once per snapshot, the row index)
+ * the first time it writes to it afterwards. Rows a writer never touches are never copied.
+ * <p>
+ * A CowGrid allows only one writer at a time: a write to any row may replace the shared row index, so two
+ * threads writing different rows can lose each other's changes. Callers that write from several threads must
+ * hold one lock around every write and snapshot. Snapshots never change, so once one is handed to another
+ * thread through a lock or a volatile field it can be read there while the grid keeps being written.
+ */
+public class CowGrid<T> implements Grid<T> {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of each axis
+	private Object[][] rows; // rows[r] holds the cells of row r in its first numCol slots
+	private int[] owner; // owner[r] is the epoch rows[r] was copied in
+	private boolean spineShared = false; // true while rows and owner are shared with a snapshot
+	private int epoch = 0; // rows from an older epoch may be seen by a snapshot
+	private int colCap = INITCAP; // the length of every row chunk
+	private int numRow = 0;
+	private int numCol = 0;
+	private final boolean frozen; // snapshots cannot be changed
+
+	public CowGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this.rows = new Object[INITCAP][];
+		this.owner = new int[INITCAP];
+		this.frozen = false;
+	}
+
+	/**
+	 * Builds a read-only view over chunks that its creator will not write
+	 * again.
+	 */
+	private CowGrid(Object[][] rows, int[] owner, int colCap, int numRow, int numCol) {
+		this.rows = rows;
+		this.owner = owner;
+		this.colCap = colCap;
+		this.numRow = numRow;
+		this.numCol = numCol;
+		this.frozen = true;
+	}
+
+	/**
+	 * @return returns a read-only grid with the current contents, later writes
+	 *         to this grid do not show up in it
+	 */
+	public CowGrid<T> snapshot() {
+		// O(1)
+		if (frozen) {
+			return this;
+		}
+		CowGrid<T> view = new CowGrid<>(rows, owner, colCap, numRow, numCol);
+		// every row that exists now belongs to the view as well
+		epoch++;
+		spineShared = true;
+		return view;
+	}
+
+	/**
+	 * @return returns true if this grid is a snapshot and cannot be changed
+	 */
+	public boolean isFrozen() {
+		// O(1)
+		return frozen;
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int indexRow, int indexCol) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return (T) rows[indexRow][indexCol];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1), or O(C) for the first write to a row since the last snapshot
+		this.checkWritable();
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Object[] row = this.writableRow(indexRow);
+		T oldItem = (T) row[indexCol];
+		row[indexCol] = value;
+		return oldItem;
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// amortized O(C + R) where R is the number of rows and C is the
+		// number of columns of the grid
+		this.checkWritable();
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			numCol = newRow.size();
+			colCap = Math.max(INITCAP, numCol);
+		} else if (newRow.size() != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		this.ownSpine();
+		// double the row capacity if no space is available
+		if (numRow == rows.length) {
+			rows = Arrays.copyOf(rows, rows.length * 2);
+			owner = Arrays.copyOf(owner, owner.length * 2);
+		}
+		System.arraycopy(rows, index, rows, index + 1, numRow - index);
+		System.arraycopy(owner, index, owner, index + 1, numRow - index);
+		Object[] row = new Object[colCap];
+		for (int i = 0; i < numCol; i++) {
+			row[i] = newRow.get(i);
+		}
+		rows[index] = row;
+		owner[index] = epoch;
+		numRow++;
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// amortized O(RC) where R is the number of rows and C is the number
+		// of columns of the grid
+		this.checkWritable();
+		if (index < 0 || index > numCol || numRow == 0 || newCol.size() != numRow) {
+			return false;
+		}
+		// double the column capacity if no space is available, the new chunks
+		// are private so they need no further copy
+		if (numCol == colCap) {
+			this.resizeCols(colCap * 2);
+		}
+		for (int r = 0; r < numRow; r++) {
+			Object[] row = this.writableRow(r);
+			System.arraycopy(row, index, row, index + 1, numCol - index);
+			row[index] = newCol.get(r);
+		}
+		numCol++;
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeRow(int index) {
+		// O(C + R) where R is the number of rows and C is the number of
+		// columns of the grid
+		this.checkWritable();
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int i = 0; i < numCol; i++) {
+			oldRow.add((T) rows[index][i]);
+		}
+		this.ownSpine();
+		System.arraycopy(rows, index + 1, rows, index, numRow - index - 1);
+		System.arraycopy(owner, index + 1, owner, index, numRow - index - 1);
+		numRow--;
+		rows[numRow] = null;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity if fewer than 1/3 of the rows are used
+		if (numRow < rows.length / 3.0 && rows.length / 2 >= INITCAP) {
+			rows = Arrays.copyOf(rows, rows.length / 2);
+			owner = Arrays.copyOf(owner, owner.length / 2);
+		}
+		return oldRow;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeCol(int index) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		// of the grid
+		this.checkWritable();
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			Object[] row = this.writableRow(r);
+			oldCol.add((T) row[index]);
+			System.arraycopy(row, index + 1, row, index, numCol - index - 1);
+			row[numCol - 1] = null;
+		}
+		numCol--;
+		// halve the column capacity if fewer than 1/3 of the columns are used
+		if (numCol < colCap / 3.0 && colCap / 2 >= INITCAP) {
+			this.resizeCols(colCap / 2);
+		}
+		return oldCol;
+	}
+
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// amortized O(KC + R) where K is the number of new rows, R is the
+		// number of rows and C is the number of columns of the grid
+		this.checkWritable();
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		int count = newRows.size();
+		int length = numRow == 0 && count != 0 ? newRows.get(0).size() : numCol;
+		for (int k = 0; k < count; k++) {
+			if (newRows.get(k).size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+		}
+		if (numRow == 0) {
+			// the first rows decide how many columns the grid has
+			numCol = length;
+			colCap = Math.max(INITCAP, numCol);
+		}
+		this.ownSpine();
+		// double the row capacity as often as needed, but copy once
+		if (numRow + count > rows.length) {
+			int newRowCap = rows.length;
+			while (newRowCap < numRow + count) {
+				newRowCap *= 2;
+			}
+			rows = Arrays.copyOf(rows, newRowCap);
+			owner = Arrays.copyOf(owner, newRowCap);
+		}
+		System.arraycopy(rows, index, rows, index + count, numRow - index);
+		System.arraycopy(owner, index, owner, index + count, numRow - index);
+		for (int k = 0; k < count; k++) {
+			Object[] row = new Object[colCap];
+			for (int i = 0; i < numCol; i++) {
+				row[i] = newRows.get(k).get(i);
+			}
+			rows[index + k] = row;
+			owner[index + k] = epoch;
+		}
+		numRow += count;
+		return true;
+	}
+
+	@Override
+	public void removeRows(int from, int to) {
+		// O(R) where R is the number of rows of the grid
+		this.checkWritable();
+		if (from < 0 || to > numRow || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		this.ownSpine();
+		System.arraycopy(rows, to, rows, from, numRow - to);
+		System.arraycopy(owner, to, owner, from, numRow - to);
+		Arrays.fill(rows, numRow - (to - from), numRow, null);
+		numRow -= to - from;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity as often as removeRow would, but copy once
+		int newRowCap = rows.length;
+		while (numRow < newRowCap / 3.0 && newRowCap / 2 >= INITCAP) {
+			newRowCap /= 2;
+		}
+		if (newRowCap != rows.length) {
+			rows = Arrays.copyOf(rows, newRowCap);
+			owner = Arrays.copyOf(owner, newRowCap);
+		}
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             if this grid is a snapshot
+	 */
+	private void checkWritable() {
+		if (frozen) {
+			throw new UnsupportedOperationException("Snapshot cannot be changed!");
+		}
+	}
+
+	/**
+	 * Copy the row index if a snapshot still shares it. This swaps the
+	 * arrays every row lives in, which is why only one thread may write.
+	 */
+	private void ownSpine() {
+		// O(R) once per snapshot, O(1) otherwise
+		if (spineShared) {
+			rows = rows.clone();
+			owner = owner.clone();
+			spineShared = false;
+		}
+	}
+
+	/**
+	 * @param r
+	 *            is a valid row index
+	 * @return returns row r, copied first if a snapshot may still see it
+	 */
+	private Object[] writableRow(int r) {
+		// O(C) the first time row r is written after a snapshot, O(1) after
+		if (owner[r] != epoch) {
+			this.ownSpine();
+			rows[r] = rows[r].clone();
+			owner[r] = epoch;
+		}
+		return rows[r];
+	}
+
+	/**
+	 * @param newColCap
+	 *            is the new length of every row chunk, at least numCol
+	 */
+	private void resizeCols(int newColCap) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		this.ownSpine();
+		for (int r = 0; r < numRow; r++) {
+			rows[r] = Arrays.copyOf(rows[r], newColCap);
+			owner[r] = epoch;
+		}
+		colCap = newColCap;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(rows[r][c]).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		CowGrid<Integer> cgrid = new CowGrid<>();
+		for (int r = 0; r < 4; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>();
+			for (int c = 0; c < 3; c++) {
+				row.add(r * 10 + c);
+			}
+			cgrid.addRow(r, row);
+		}
+		CowGrid<Integer> snap = cgrid.snapshot();
+		cgrid.set(1, 1, -1);
+		if (snap.get(1, 1) == 11 && cgrid.get(1, 1) == -1 && snap.rows[0] == cgrid.rows[0]
+				&& snap.rows[1] != cgrid.rows[1]) {
+			System.out.println("Yay 1");
+		}
+
+		DynamicArray<Integer> col = new DynamicArray<>();
+		for (int r = 0; r < 4; r++) {
+			col.add(100 + r);
+		}
+		cgrid.addCol(0, col);
+		cgrid.removeRow(0);
+		if (snap.getNumRow() == 4 && snap.getNumCol() == 3 && snap.get(0, 0) == 0 && cgrid.getNumRow() == 3
+				&& cgrid.getNumCol() == 4 && cgrid.get(0, 0) == 101 && cgrid.get(0, 2) == -1) {
+			System.out.println("Yay 2");
+		}
+
+		try {
+			snap.set(0, 0, 5);
+		} catch (UnsupportedOperationException e) {
+			if (snap.snapshot() == snap && snap.get(0, 0) == 0) {
+				System.out.println("Yay 3");
+			}
+		}
+	}
+}
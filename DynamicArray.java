@@ -1,5 +1,4 @@
-import com.sun.xml.internal.bind.v2.runtime.output.NamespaceContextImpl;
-import sun.security.jca.GetInstance.Instance;
+import java.util.Arrays;
 
 /**
  * @author Helena Gray
@@ -11,9 +10,10 @@ public class DynamicArray<T> {
 
 	private static final int INITCAP = 2; // default initial capacity / minimum capacity
 	private T[] storage; // underlying array
-	// end is the cell after the last cell with a value in it
+	private final GrowthPolicy policy; // how the capacity grows and shrinks
+	// end is the cell after the last cell in the list
 	private int end = 0;
-	// size is how many elements not equal to null in array
+	// size is how many elements are in the list (null elements included)
 	private int size = 0;
 
 	@SuppressWarnings("unchecked")
@@ -21,6 +21,7 @@ public class DynamicArray<T> {
 		// constructor
 		// initial capacity of the array should be INITCAP
 		this.storage = (T[]) new Object[this.INITCAP];
+		this.policy = GrowthPolicy.DOUBLING;
 	}
 
 	/**
@@ -28,8 +29,22 @@ public class DynamicArray<T> {
 	 *            gives the initial and lowest capacity for a DynamicArray
 	 *            instance
 	 */
-	@SuppressWarnings("unchecked")
 	public DynamicArray(int initCapacity) {
+		// constructor
+		this(initCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * @param initCapacity
+	 *            gives the initial capacity for a DynamicArray instance, for
+	 *            example the number of elements it will hold when that is
+	 *            known up front
+	 * @param policy
+	 *            decides how the capacity grows when full and shrinks when
+	 *            mostly empty
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicArray(int initCapacity, GrowthPolicy policy) {
 		// constructor
 		// throw IllegalArgumentException if initCapacity < 1
 		if (initCapacity < 1) {
@@ -37,12 +52,12 @@ public class DynamicArray<T> {
 		} else {
 			// set the initial capacity of the array as initCapacity
 			this.storage = (T[]) new Object[initCapacity];
+			this.policy = policy;
 		}
 	}
 
 	/**
-	 * @return numElements which is the number of elements not equal to null in
-	 *         the array
+	 * @return numElements which is the number of elements in the array
 	 */
 	public int size() {
 		// O(1)
@@ -119,24 +134,16 @@ public class DynamicArray<T> {
 	 * @return returns the old value that was replaced with value in the
 	 *         DynamicArray
 	 */
-	@SuppressWarnings("unchecked")
 	public boolean add(T value) {
 		// amortized O(1)
+		// grow the capacity if no space is available
+		if (end == this.capacity()) {
+			this.resize(policy.grow(this.capacity(), end + 1));
+		}
+		// add value to the end of the list (append)
+		storage[end] = value;
 		end++;
 		size++;
-		// double the capacity if no space is available
-		if (end - 1 >= capacity()) {
-			DynamicArray tempArr = new DynamicArray(this.capacity() * 2);
-			System.arraycopy(storage, 0, tempArr.storage, 0, size - 1);
-			storage = (T[]) tempArr.storage;
-		}
-		try {
-			// add value to the end of the list (append)
-			this.set(end - 1, value);
-		} catch (IndexOutOfBoundsException e) {
-			end--;
-			size--;
-		}
 		return true;
 	}
 
@@ -151,41 +158,85 @@ public class DynamicArray<T> {
 	 *             than one of the end of the array which is the slot after the
 	 *             last element that is not null
 	 */
-	@SuppressWarnings("unchecked")
 	public void add(int index, T value) {
-		// O(N) where N is the number of elements in the list
+		// O(N-index) where N is the number of elements in the list
 		// Note: this method may be used to append items as
 		// well as insert items
 		if (index < 0 || index > end) {
 			// throw IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
 		} else {
-			// insert value at index, shift elements if needed
-			if (index == end) {
-				this.add(value);
-			} else {
-				// double the capacity if no space is available
-				if (this.size() == this.capacity()) {
-					DynamicArray tempArr = new DynamicArray(this.capacity() * 2);
-					System.arraycopy(storage, 0, tempArr.storage, 0, this.size());
-					storage = (T[]) tempArr.storage;
-				}
-				end++;
-				for (int k = end - 2; k >= index; k--) {
-					try {
-						this.set(k + 1, this.get(k));
-					} catch (IndexOutOfBoundsException e) {
-						end--;
-						break;
-					}
-				}
-				try {
-					this.set(index, value);
-					size++;
-				} catch (IndexOutOfBoundsException e) {
-					size--;
-				}
+			// grow the capacity if no space is available
+			if (end == this.capacity()) {
+				this.resize(policy.grow(this.capacity(), end + 1));
 			}
+			// shift the elements from index on right in one block to open a
+			// slot, nothing to shift when appending
+			System.arraycopy(storage, index, storage, index + 1, end - index);
+			storage[index] = value;
+			end++;
+			size++;
+		}
+	}
+
+	/**
+	 * @param index
+	 *            is the slot in the DynamicArray where the first value will go
+	 * @param values
+	 *            are the values to insert, in order
+	 * @throws IndexOutOfBoundsException
+	 *             if index is smaller than 0 or greater than the end of the
+	 *             array
+	 */
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, DynamicArray<? extends T> values) {
+		// O(N-index+K) where N is the number of elements in the list and K is
+		// the number of values, with at most one growth step
+		if (index < 0 || index > end) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int count = values.size();
+		// take the values out first in case they are this list
+		Object[] added = Arrays.copyOf(values.storage, count);
+		if (end + count > this.capacity()) {
+			// grow once, to at least what is needed
+			this.resize(policy.grow(this.capacity(), end + count));
+		}
+		// shift the elements from index on right in one block
+		System.arraycopy(storage, index, storage, index + count, end - index);
+		System.arraycopy(added, 0, storage, index, count);
+		end += count;
+		size += count;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first element to remove
+	 * @param to
+	 *            is the index after the last element to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is smaller than 0, to is greater than the end of the
+	 *             array, or from is greater than to
+	 */
+	public void removeRange(int from, int to) {
+		// O(N-from) where N is the number of elements in the list, with at
+		// most one shrink step
+		if (from < 0 || to > end || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int count = to - from;
+		// shift the elements after the range left in one block
+		System.arraycopy(storage, to, storage, from, end - to);
+		// clear the old tail so the removed references can be collected
+		Arrays.fill(storage, end - count, end, null);
+		end -= count;
+		size -= count;
+		// shrink as many steps as remove would have, but copy only once
+		int newCapacity = policy.shrink(this.capacity(), size);
+		if (newCapacity != this.capacity()) {
+			this.resize(newCapacity);
 		}
 	}
 
@@ -199,43 +250,74 @@ public class DynamicArray<T> {
 	 *             that is not null
 	 * @return returns the value that was removed from the DynamicArray
 	 */
-	@SuppressWarnings("unchecked")
 	public T remove(int index) {
-		// O(N) where N is the number of elements in the list
+		// O(1) amortized at the end of the list, O(N-index) otherwise where N
+		// is the number of elements in the list
 		T oldItem;
 		if (index < 0 || index >= end) {
 			// throw IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
 		} else {
 			// remove and return element at position index
-			// shift elements to remove any gap in the list
-			oldItem = this.get(index);
-			this.set(index, null);
-			DynamicArray tempArr = new DynamicArray(this.capacity());
-			for (T t : storage) {
-				if (t != null) {
-					tempArr.add(t);
-				}
+			oldItem = storage[index];
+			// shift the elements after index left in one block to remove the
+			// gap, nothing to shift when removing the last element
+			int moved = end - index - 1;
+			if (moved > 0) {
+				System.arraycopy(storage, index + 1, storage, index, moved);
 			}
-			storage = (T[]) tempArr.storage;
 			size--;
 			end--;
-			if (this.size() < (this.capacity() / 3.0)) {
-				// halve capacity if the number of elements falls below 1/3 of
-				// the capacity
-				if ((this.capacity() / 2.0) < INITCAP) {
-					// capacity should NOT go below INITCAP
-					System.out.println("Capacity cannot be less than " + INITCAP);
-				} else {
-					tempArr = new DynamicArray(this.capacity() / 2);
-					System.arraycopy(storage, 0, tempArr.storage, 0, this.size());
-					storage = (T[]) tempArr.storage;
-				}
+			// clear the old last slot so the removed reference can be collected
+			storage[end] = null;
+			// shrink if too much of the capacity is unused; by default halve
+			// when the number of elements falls below 1/3 of the capacity, the
+			// halved array is still at most 2/3 full so an add right after a
+			// shrink does not grow it straight back
+			int newCapacity = policy.shrink(this.capacity(), this.size());
+			if (newCapacity != this.capacity()) {
+				this.resize(newCapacity);
 			}
 		}
 		return oldItem;
 	}
 
+	/**
+	 * @param minCapacity
+	 *            is how many elements the array should hold without growing
+	 */
+	public void ensureCapacity(int minCapacity) {
+		// O(N) where N is the number of elements in the list if the array has
+		// to grow, O(1) otherwise
+		// grow straight to minCapacity, an exact presize wastes nothing
+		if (minCapacity > this.capacity()) {
+			this.resize(minCapacity);
+		}
+	}
+
+	/**
+	 * Shrink the capacity to the number of elements, at least 1.
+	 */
+	public void trimToSize() {
+		// O(N) where N is the number of elements in the list
+		if (this.capacity() > Math.max(1, end)) {
+			this.resize(Math.max(1, end));
+		}
+	}
+
+	/**
+	 * @param newCapacity
+	 *            is the capacity of the new underlying array, must be at least
+	 *            the end of the array
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int newCapacity) {
+		// O(N) where N is the number of elements in the list
+		T[] tempArr = (T[]) new Object[newCapacity];
+		System.arraycopy(storage, 0, tempArr, 0, end);
+		storage = tempArr;
+	}
+
 	// --------------------------------------------------------
 	// example testing code... edit this as much as you want!
 	// --------------------------------------------------------
@@ -286,6 +368,20 @@ public class DynamicArray<T> {
 			System.out.println("Yay 4");
 		}
 
+		// presizing and policies?
+		DynamicArray<Integer> lean = new DynamicArray<>(16, new GrowthPolicy(1.25, 16, 0.5, 16));
+		lean.ensureCapacity(100);
+		for (int i = 0; i < 101; i++) {
+			lean.add(i);
+		}
+		int grown = lean.capacity();
+		lean.removeRange(0, 60);
+		int shrunk = lean.capacity();
+		lean.trimToSize();
+		if (grown == 141 && shrunk == 67 && lean.capacity() == 41 && lean.get(0) == 60) {
+			System.out.println("Yay 5");
+		}
+
 		// remember to tests more things...
 	}
 
@@ -0,0 +1,114 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times DynamicArray removals against the old rebuild-on-remove
+ * algorithm for lists of 10^3 to 10^7 elements.
+ */
+public class DynamicArrayBenchmark {
+
+	/**
+	 * The removal algorithm DynamicArray used before removals were done in
+	 * place: null the slot, then rebuild the whole array from the elements
+	 * that are not null.
+	 */
+	private static class LegacyArray {
+		private Object[] storage;
+		private int end = 0;
+
+		LegacyArray(int initCapacity) {
+			this.storage = new Object[initCapacity];
+		}
+
+		void add(Object value) {
+			if (end == storage.length) {
+				Object[] tempArr = new Object[storage.length * 2];
+				System.arraycopy(storage, 0, tempArr, 0, end);
+				storage = tempArr;
+			}
+			storage[end++] = value;
+		}
+
+		Object remove(int index) {
+			// O(capacity) with a full allocation on every call
+			Object oldItem = storage[index];
+			storage[index] = null;
+			LegacyArray tempArr = new LegacyArray(storage.length);
+			for (Object o : storage) {
+				if (o != null) {
+					tempArr.add(o);
+				}
+			}
+			storage = tempArr.storage;
+			end--;
+			if (end < storage.length / 3.0 && storage.length / 2.0 >= 2) {
+				Object[] halved = new Object[storage.length / 2];
+				System.arraycopy(storage, 0, halved, 0, end);
+				storage = halved;
+			}
+			return oldItem;
+		}
+	}
+
+	/**
+	 * @param n
+	 *            is the number of elements to fill the list with
+	 * @return returns a DynamicArray holding 0 to n-1
+	 */
+	private static DynamicArray<Integer> filled(int n) {
+		DynamicArray<Integer> arr = new DynamicArray<>();
+		for (int i = 0; i < n; i++) {
+			arr.add(i);
+		}
+		return arr;
+	}
+
+	/**
+	 * @param n
+	 *            is the number of elements to fill the list with
+	 * @return returns a LegacyArray holding 0 to n-1
+	 */
+	private static LegacyArray filledLegacy(int n) {
+		LegacyArray arr = new LegacyArray(2);
+		for (int i = 0; i < n; i++) {
+			arr.add(i);
+		}
+		return arr;
+	}
+
+	public static void main(String[] args) {
+		// keep the slow path to roughly 10^8 element moves per size
+		System.out.println(String.format("%10s %8s %16s %16s %16s", "n", "ops", "old mid ns/op", "new mid ns/op",
+				"new tail ns/op"));
+		for (int n = 1000; n <= 10000000; n *= 10) {
+			int ops = Math.max(1, Math.min(n / 2, 100000000 / n));
+			long sink = 0;
+
+			LegacyArray legacy = filledLegacy(n);
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				sink += (Integer) legacy.remove(legacy.end / 2);
+			}
+			long oldMid = (System.nanoTime() - start) / ops;
+			legacy = null;
+
+			DynamicArray<Integer> arr = filled(n);
+			start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				sink += arr.remove(arr.size() / 2);
+			}
+			long newMid = (System.nanoTime() - start) / ops;
+
+			// drain the whole list from the end, shrinking as it goes
+			arr = filled(n);
+			start = System.nanoTime();
+			while (arr.size() > 0) {
+				sink += arr.remove(arr.size() - 1);
+			}
+			long newTail = (System.nanoTime() - start) / n;
+
+			System.out.println(String.format("%10d %8d %16d %16d %16d", n, ops, oldMid, newMid, newTail)
+					+ (sink == 42 ? " " : ""));
+		}
+	}
+}
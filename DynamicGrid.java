@@ -4,7 +4,7 @@
  * 
  * This class creates a dynamic grid that will grow or shrink depending on grid contents, capacity, and input.
  */
-public class DynamicGrid<T> {
+public class DynamicGrid<T> implements Grid<T> {
 	private DynamicArray<DynamicArray<T>> storage; // underlying storage
 	// HINT: Read the big-O requirements of the methods below to determine
 	// how the columns/rows should be stored in storage.
@@ -15,6 +15,17 @@ public class DynamicGrid<T> {
 		this.storage = new DynamicArray<DynamicArray<T>>();
 	}
 
+	/**
+	 * @param rowCapacity
+	 *            is how many rows the grid can hold before the row spine grows,
+	 *            for example the final number of rows when that is known
+	 */
+	public DynamicGrid(int rowCapacity) {
+		// constructor
+		// create an empty table of 0 rows and 0 cols
+		this.storage = new DynamicArray<DynamicArray<T>>(rowCapacity);
+	}
+
 	/**
 	 * @return this.storage.size() which is the number of rows in the grid
 	 */
@@ -105,8 +116,8 @@ public class DynamicGrid<T> {
 		// Note: this can be used to append rows as well as insert rows
 		// copy values from newRow to add a row at the row index specified
 
-		// O(C)
-		DynamicArray tempArr = new DynamicArray(newRow.capacity());
+		// O(C) presized to exactly the row, spare room would only be wasted
+		DynamicArray tempArr = new DynamicArray(Math.max(1, newRow.size()));
 		for (int i = 0; i < newRow.size(); i++) {
 			tempArr.add(newRow.get(i));
 		}
@@ -181,21 +192,9 @@ public class DynamicGrid<T> {
 			// throw IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
 		} else {
-			DynamicArray OldRow = new DynamicArray(this.getNumCol());
-			for (int i = 0; i < this.getNumCol(); i++) {
-				OldRow.add(this.storage.get(index).get(i));
-			}
-			this.storage.get(index).set(0, null);
-			DynamicGrid tempGrid = new DynamicGrid();
-			tempGrid.storage = (DynamicArray<T>) new DynamicArray(this.getNumRow() - 1);
-			// shift rows to remove the gap
-			for (int k = 0; k < this.getNumRow(); k++) {
-				if (this.storage.get(k).get(0) != null) {
-					tempGrid.storage.add(this.storage.get(k));
-				}
-			}
-			this.storage = tempGrid.storage;
-			return OldRow;
+			// the row spine shifts the rows below index up to remove the gap,
+			// so rows with null or no cells are removed correctly too
+			return this.storage.remove(index);
 		}
 
 	}
@@ -225,6 +224,112 @@ public class DynamicGrid<T> {
 		}
 	}
 
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// O(KC+R) where K is the number of new rows, R is the number of rows
+		// and C is the number of columns of the grid
+		if (index < 0 || index > this.getNumRow()) {
+			return false;
+		}
+		int length = this.getNumCol() == 0 && newRows.size() != 0 ? newRows.get(0).size() : this.getNumCol();
+		// O(KC) copy the rows
+		DynamicArray<DynamicArray<T>> tempRows = new DynamicArray<>(Math.max(1, newRows.size()));
+		for (int k = 0; k < newRows.size(); k++) {
+			DynamicArray<T> newRow = newRows.get(k);
+			if (newRow.size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+			DynamicArray<T> tempArr = new DynamicArray<>(Math.max(1, length));
+			for (int i = 0; i < length; i++) {
+				tempArr.add(newRow.get(i));
+			}
+			tempRows.add(tempArr);
+		}
+		// O(R+K) shift the row spine once
+		storage.addAll(index, tempRows);
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+		// O(R(C+K)) where K is the number of new columns, R is the number of
+		// rows and C is the number of columns of the grid
+		if (index < 0 || index > this.getNumCol() || this.getNumRow() == 0) {
+			return false;
+		}
+		for (int k = 0; k < newCols.size(); k++) {
+			if (newCols.get(k).size() != this.getNumRow()) {
+				return false;
+			}
+		}
+		// shift every row once, by the number of new columns
+		for (int i = 0; i < this.getNumRow(); i++) {
+			DynamicArray<T> slice = new DynamicArray<>(Math.max(1, newCols.size()));
+			for (int k = 0; k < newCols.size(); k++) {
+				slice.add(newCols.get(k).get(i));
+			}
+			this.storage.get(i).addAll(index, slice);
+		}
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	@Override
+	public void removeRows(int from, int to) {
+		// O(R) where R is the number of rows of the grid
+		if (from < 0 || to > this.getNumRow() || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		this.storage.removeRange(from, to);
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	@Override
+	public void removeCols(int from, int to) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		if (from < 0 || to > this.getNumCol() || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int i = 0; i < this.getNumRow(); i++) {
+			this.storage.get(i).removeRange(from, to);
+		}
+	}
+
 	// --------------------------------------------------------
 	// example testing code... edit this as much as you want!
 	// --------------------------------------------------------
@@ -0,0 +1,475 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid that keeps every cell in one contiguous row-major array. Each row
+ * starts a fixed stride apart, with spare capacity kept on both axes so rows and columns can be added
+ * without moving the whole grid every time.
+ */
+public class FlatGrid<T> implements Grid<T> {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of each axis
+	private Object[] cells; // underlying storage, cell (r, c) lives at r * colCap + c
+	private int rowCap; // how many rows fit before cells has to grow
+	private int colCap; // the row stride, how many columns fit before a relayout
+	private int numRow = 0;
+	private int numCol = 0;
+
+	public FlatGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this(INITCAP, INITCAP);
+	}
+
+	/**
+	 * @param rowCapacity
+	 *            is how many rows the grid can hold before growing
+	 * @param colCapacity
+	 *            is how many columns the grid can hold before growing
+	 */
+	public FlatGrid(int rowCapacity, int colCapacity) {
+		// constructor
+		// throw IllegalArgumentException if either capacity < 1
+		if (rowCapacity < 1 || colCapacity < 1) {
+			throw new IllegalArgumentException("Grid cannot be smaller than 1x1!");
+		}
+		this.rowCap = rowCapacity;
+		this.colCap = colCapacity;
+		this.cells = new Object[rowCapacity * colCapacity];
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to be returned
+	 * @param indexCol
+	 *            is the column index of the value to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is less than 0 or greater than or
+	 *             equal to the number of rows or columns
+	 * @return returns the value at the row and column indices
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int indexRow, int indexCol) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return (T) cells[indexRow * colCap + indexCol];
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to replace
+	 * @param indexCol
+	 *            is the column index of the value to replace
+	 * @param value
+	 *            is the value to put in the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is less than 0 or greater than or
+	 *             equal to the number of rows or columns
+	 * @return returns the old value of the cell
+	 */
+	@SuppressWarnings("unchecked")
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int slot = indexRow * colCap + indexCol;
+		T oldItem = (T) cells[slot];
+		cells[slot] = value;
+		return oldItem;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index of the grid where the new row will be added
+	 * @param newRow
+	 *            is the new row that will be added to the grid
+	 * @return returns true if the row was added
+	 */
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// amortized O(C + (R-index)C) where R is the number of rows and C is
+		// the number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			if (newRow.size() > colCap) {
+				this.relayout(rowCap, newRow.size());
+			}
+			numCol = newRow.size();
+		} else if (newRow.size() != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		// double the row capacity if no space is available
+		if (numRow == rowCap) {
+			this.relayout(rowCap * 2, colCap);
+		}
+		// shift the rows below index down one stride in a single block
+		int start = index * colCap;
+		System.arraycopy(cells, start, cells, start + colCap, (numRow - index) * colCap);
+		for (int i = 0; i < numCol; i++) {
+			cells[start + i] = newRow.get(i);
+		}
+		numRow++;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index of the grid where the new column will be
+	 *            added
+	 * @param newCol
+	 *            is the new column that will be added to the grid
+	 * @return returns true if the column was added
+	 */
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// amortized O(R(C-index)) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0 || newCol.size() != numRow) {
+			return false;
+		}
+		// double the column capacity (the row stride) if no space is available
+		if (numCol == colCap) {
+			this.relayout(rowCap, colCap * 2);
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + index, cells, start + index + 1, numCol - index);
+			cells[start + index] = newCol.get(r);
+		}
+		numCol++;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number of
+	 *             rows
+	 * @return returns the row that was removed from the grid
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeRow(int index) {
+		// O((R-index)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int start = index * colCap;
+		DynamicArray<T> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int i = 0; i < numCol; i++) {
+			oldRow.add((T) cells[start + i]);
+		}
+		// shift the rows below index up one stride in a single block
+		System.arraycopy(cells, start + colCap, cells, start, (numRow - index - 1) * colCap);
+		numRow--;
+		// clear the old last row so the removed references can be collected
+		Arrays.fill(cells, numRow * colCap, (numRow + 1) * colCap, null);
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity if fewer than 1/3 of the rows are used
+		if (numRow < rowCap / 3.0 && rowCap / 2 >= INITCAP) {
+			this.relayout(rowCap / 2, colCap);
+		}
+		return oldRow;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number of
+	 *             columns
+	 * @return returns the column that was removed from the grid
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeCol(int index) {
+		// O(R(C-index)) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			oldCol.add((T) cells[start + index]);
+			System.arraycopy(cells, start + index + 1, cells, start + index, numCol - index - 1);
+			cells[start + numCol - 1] = null;
+		}
+		numCol--;
+		return oldCol;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// amortized O(KC + (R-index)C) where K is the number of new rows, R
+		// is the number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		int count = newRows.size();
+		int length = numRow == 0 && count != 0 ? newRows.get(0).size() : numCol;
+		for (int k = 0; k < count; k++) {
+			if (newRows.get(k).size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+		}
+		if (numRow == 0) {
+			// the first rows decide how many columns the grid has
+			if (length > colCap) {
+				this.relayout(rowCap, length);
+			}
+			numCol = length;
+		}
+		// double the row capacity as often as needed, but relayout once
+		if (numRow + count > rowCap) {
+			int newRowCap = rowCap;
+			while (newRowCap < numRow + count) {
+				newRowCap *= 2;
+			}
+			this.relayout(newRowCap, colCap);
+		}
+		// shift the rows below index down in a single block
+		int start = index * colCap;
+		System.arraycopy(cells, start, cells, start + count * colCap, (numRow - index) * colCap);
+		for (int k = 0; k < count; k++) {
+			DynamicArray<T> newRow = newRows.get(k);
+			int rowStart = start + k * colCap;
+			for (int i = 0; i < numCol; i++) {
+				cells[rowStart + i] = newRow.get(i);
+			}
+		}
+		numRow += count;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+		// amortized O(R(C-index+K)) where K is the number of new columns, R is
+		// the number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0) {
+			return false;
+		}
+		int count = newCols.size();
+		for (int k = 0; k < count; k++) {
+			if (newCols.get(k).size() != numRow) {
+				return false;
+			}
+		}
+		// double the column capacity as often as needed, but relayout once
+		if (numCol + count > colCap) {
+			int newColCap = colCap;
+			while (newColCap < numCol + count) {
+				newColCap *= 2;
+			}
+			this.relayout(rowCap, newColCap);
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + index, cells, start + index + count, numCol - index);
+			for (int k = 0; k < count; k++) {
+				cells[start + index + k] = newCols.get(k).get(r);
+			}
+		}
+		numCol += count;
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	@Override
+	public void removeRows(int from, int to) {
+		// O((R-from)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (from < 0 || to > numRow || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// shift the rows below the range up in a single block
+		System.arraycopy(cells, to * colCap, cells, from * colCap, (numRow - to) * colCap);
+		numRow -= to - from;
+		// clear the old last rows so the removed references can be collected
+		Arrays.fill(cells, numRow * colCap, (numRow + to - from) * colCap, null);
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity as often as removeRow would, but relayout once
+		int newRowCap = rowCap;
+		while (numRow < newRowCap / 3.0 && newRowCap / 2 >= INITCAP) {
+			newRowCap /= 2;
+		}
+		if (newRowCap != rowCap) {
+			this.relayout(newRowCap, colCap);
+		}
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	@Override
+	public void removeCols(int from, int to) {
+		// O(R(C-from)) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (from < 0 || to > numCol || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int count = to - from;
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + to, cells, start + from, numCol - to);
+			Arrays.fill(cells, start + numCol - count, start + numCol, null);
+		}
+		numCol -= count;
+	}
+
+	/**
+	 * @param newRowCap
+	 *            is the new row capacity, at least the number of rows
+	 * @param newColCap
+	 *            is the new column capacity (row stride), at least the number
+	 *            of columns
+	 */
+	private void relayout(int newRowCap, int newColCap) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		Object[] tempCells = new Object[newRowCap * newColCap];
+		if (newColCap == colCap) {
+			// same stride, the used rows are already one contiguous block
+			System.arraycopy(cells, 0, tempCells, 0, numRow * colCap);
+		} else {
+			for (int r = 0; r < numRow; r++) {
+				System.arraycopy(cells, r * colCap, tempCells, r * newColCap, numCol);
+			}
+		}
+		cells = tempCells;
+		rowCap = newRowCap;
+		colCap = newColCap;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(cells[r * colCap + c]).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		FlatGrid<String> sgrid = new FlatGrid<>();
+		DynamicArray<String> srow = new DynamicArray<>();
+		srow.add("English");
+		srow.add("Spanish");
+		srow.add("German");
+		if (sgrid.getNumRow() == 0 && sgrid.getNumCol() == 0 && sgrid.addRow(0, srow) && sgrid.getNumRow() == 1
+				&& sgrid.getNumCol() == 3) {
+			System.out.println("Yay 1");
+		}
+
+		if (sgrid.get(0, 0).equals("English") && sgrid.set(0, 1, "Espano").equals("Spanish")
+				&& sgrid.get(0, 1).equals("Espano")) {
+			System.out.println("Yay 2");
+		}
+
+		FlatGrid<Integer> igrid = new FlatGrid<>();
+		boolean ok = true;
+		for (int i = 0; i < 3; i++) {
+			DynamicArray<Integer> irow = new DynamicArray<>();
+			irow.add((i + 1) * 10);
+			ok = ok && igrid.addRow(igrid.getNumRow(), irow);
+		}
+		if (ok && igrid.getNumRow() == 3 && igrid.getNumCol() == 1 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 3");
+		}
+
+		DynamicArray<Integer> icol = new DynamicArray<>();
+		icol.add(-10);
+		icol.add(-20);
+		ok = igrid.addCol(1, icol);
+		icol.add(-30);
+		if (!ok && igrid.addCol(1, icol) && igrid.getNumRow() == 3 && igrid.getNumCol() == 2) {
+			System.out.println("Yay 4");
+		}
+
+		DynamicArray<Integer> irow = new DynamicArray<>();
+		irow.add(5);
+		irow.add(10);
+		if (!igrid.addRow(5, irow) && igrid.addRow(0, irow) && igrid.getNumRow() == 4 && igrid.get(0, 0) == 5
+				&& igrid.get(3, 1) == -30) {
+			System.out.println("Yay 5");
+		}
+
+		irow = igrid.removeCol(1);
+		if (igrid.getNumRow() == 4 && igrid.getNumCol() == 1 && irow.get(0) == 10 && igrid.get(0, 0) == 5
+				&& igrid.get(2, 0) == 20) {
+			System.out.println("Yay 6");
+		}
+
+		irow = igrid.removeRow(0);
+		if (igrid.getNumRow() == 3 && irow.get(0) == 5 && igrid.get(0, 0) == 10 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 7");
+		}
+	}
+
+}
@@ -313,6 +313,22 @@ class ColorRG extends ColorComb {
 	public Color combine(Integer operand1, Integer operand2) {
 		return new Color(operand2, operand1, 0);
 	}
+
+	@Override
+	public void combineRow(Integer operand1, DynamicArray<Integer> operands2, DynamicArray<Color> dest) {
+		int a = operand1;
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(new Color(operands2.get(i), a, 0));
+		}
+	}
+
+	@Override
+	public void combineCol(DynamicArray<Integer> operands1, Integer operand2, DynamicArray<Color> dest) {
+		int b = operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(new Color(b, operands1.get(i), 0));
+		}
+	}
 }
 
 /**
@@ -325,6 +341,22 @@ class ColorRB extends ColorComb {
 	public Color combine(Integer operand1, Integer operand2) {
 		return new Color(operand2, 0, operand1);
 	}
+
+	@Override
+	public void combineRow(Integer operand1, DynamicArray<Integer> operands2, DynamicArray<Color> dest) {
+		int a = operand1;
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(new Color(operands2.get(i), 0, a));
+		}
+	}
+
+	@Override
+	public void combineCol(DynamicArray<Integer> operands1, Integer operand2, DynamicArray<Color> dest) {
+		int b = operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(new Color(b, 0, operands1.get(i)));
+		}
+	}
 }
 
 /**
@@ -337,6 +369,22 @@ class ColorGB extends ColorComb {
 	public Color combine(Integer operand1, Integer operand2) {
 		return new Color(0, operand2, operand1);
 	}
+
+	@Override
+	public void combineRow(Integer operand1, DynamicArray<Integer> operands2, DynamicArray<Color> dest) {
+		int a = operand1;
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(new Color(0, operands2.get(i), a));
+		}
+	}
+
+	@Override
+	public void combineCol(DynamicArray<Integer> operands1, Integer operand2, DynamicArray<Color> dest) {
+		int b = operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(new Color(0, b, operands1.get(i)));
+		}
+	}
 }
 
 /**
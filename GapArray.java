@@ -0,0 +1,253 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic array with a gap buffer: the free slots sit in one block wherever the last
+ * insert or remove happened instead of at the end. An insert or remove only shifts the elements between the
+ * old and the new position of the gap, so editing repeatedly near the same index costs O(1) per call
+ * instead of O(N), while get and set stay O(1).
+ */
+public class GapArray<T> {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity
+	private Object[] storage; // elements before the gap, the gap, then elements after the gap
+	private int gapStart = 0; // index of the first free slot
+	private int gapEnd; // index of the first element after the gap
+
+	public GapArray() {
+		// constructor
+		this(INITCAP);
+	}
+
+	/**
+	 * @param initCapacity
+	 *            gives the initial and lowest capacity for a GapArray instance
+	 * @throws IllegalArgumentException
+	 *             if initCapacity is less than 1
+	 */
+	public GapArray(int initCapacity) {
+		// constructor
+		if (initCapacity < 1) {
+			throw new IllegalArgumentException("Array cannot be smaller than 1!");
+		}
+		this.storage = new Object[initCapacity];
+		this.gapEnd = initCapacity;
+	}
+
+	/**
+	 * @return returns the number of elements in the array
+	 */
+	public int size() {
+		// O(1)
+		return storage.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * @return returns how many elements the array can hold before growing
+	 */
+	public int capacity() {
+		// O(1)
+		return storage.length;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to return
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns the element at index
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		// O(1)
+		if (index < 0 || index >= this.size()) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return (T) storage[this.slot(index)];
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to replace
+	 * @param value
+	 *            is the new element
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns the old element at index
+	 */
+	@SuppressWarnings("unchecked")
+	public T set(int index, T value) {
+		// O(1)
+		if (index < 0 || index >= this.size()) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int slot = this.slot(index);
+		T oldItem = (T) storage[slot];
+		storage[slot] = value;
+		return oldItem;
+	}
+
+	/**
+	 * @param value
+	 *            is the element to append
+	 * @return returns true
+	 */
+	public boolean add(T value) {
+		// amortized O(1) once the gap is at the end
+		this.add(this.size(), value);
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is where value goes, the elements from index on move up one
+	 * @param value
+	 *            is the element to insert
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than size()
+	 */
+	public void add(int index, T value) {
+		// amortized O(|index - gap| + 1) where gap is where the last insert or
+		// remove happened
+		if (index < 0 || index > this.size()) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// double the capacity if no space is available
+		if (gapStart == gapEnd) {
+			this.resize(storage.length * 2);
+		}
+		this.moveGap(index);
+		storage[gapStart++] = value;
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns the element that was removed
+	 */
+	@SuppressWarnings("unchecked")
+	public T remove(int index) {
+		// amortized O(|index - gap| + 1) where gap is where the last insert or
+		// remove happened
+		if (index < 0 || index >= this.size()) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		this.moveGap(index);
+		T oldItem = (T) storage[gapEnd];
+		// clear the slot so the removed reference can be collected
+		storage[gapEnd++] = null;
+		// halve capacity if the number of elements falls below 1/3 of the
+		// capacity, capacity should NOT go below INITCAP
+		if (this.size() < storage.length / 3.0 && storage.length / 2 >= INITCAP) {
+			this.resize(storage.length / 2);
+		}
+		return oldItem;
+	}
+
+	/**
+	 * @param index
+	 *            is a valid element index
+	 * @return returns the storage slot of index
+	 */
+	private int slot(int index) {
+		return index < gapStart ? index : index + (gapEnd - gapStart);
+	}
+
+	/**
+	 * Move the gap so it starts at index.
+	 *
+	 * @param index
+	 *            is between 0 and size()
+	 */
+	private void moveGap(int index) {
+		// O(|index - gapStart|)
+		if (index < gapStart) {
+			// the elements in [index, gapStart) move to just before gapEnd
+			int moved = gapStart - index;
+			System.arraycopy(storage, index, storage, gapEnd - moved, moved);
+			Arrays.fill(storage, index, Math.min(gapStart, gapEnd - moved), null);
+			gapStart = index;
+			gapEnd -= moved;
+		} else if (index > gapStart) {
+			// the elements in [gapEnd, gapEnd + moved) move to gapStart
+			int moved = index - gapStart;
+			System.arraycopy(storage, gapEnd, storage, gapStart, moved);
+			Arrays.fill(storage, Math.max(gapEnd, index), gapEnd + moved, null);
+			gapStart = index;
+			gapEnd += moved;
+		}
+	}
+
+	/**
+	 * @param newCapacity
+	 *            is the capacity of the new underlying array, at least size()
+	 */
+	private void resize(int newCapacity) {
+		// O(N) where N is the number of elements, the gap stays where it was
+		Object[] tempArr = new Object[newCapacity];
+		int after = storage.length - gapEnd;
+		System.arraycopy(storage, 0, tempArr, 0, gapStart);
+		System.arraycopy(storage, gapEnd, tempArr, newCapacity - after, after);
+		storage = tempArr;
+		gapEnd = newCapacity - after;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		for (int i = 0; i < this.size(); i++) {
+			str.append(this.get(i)).append(' ');
+		}
+		return str.toString();
+	}
+
+	public static void main(String[] args) {
+		GapArray<Integer> garr = new GapArray<>();
+		for (int i = 0; i < 10; i++) {
+			garr.add(i);
+		}
+		garr.add(3, -3);
+		garr.add(4, -4);
+		garr.add(0, -100);
+		if (garr.size() == 13 && garr.get(0) == -100 && garr.get(4) == -3 && garr.get(5) == -4 && garr.get(12) == 9
+				&& garr.capacity() == 16) {
+			System.out.println("Yay 1");
+		}
+
+		if (garr.remove(5) == -4 && garr.remove(4) == -3 && garr.remove(0) == -100 && garr.set(9, 90) == 9
+				&& garr.toString().equals("0 1 2 3 4 5 6 7 8 90 ")) {
+			System.out.println("Yay 2");
+		}
+
+		// random edits against a DynamicArray doing the same
+		Random rnd = new Random(310);
+		DynamicArray<Integer> ref = new DynamicArray<>();
+		GapArray<Integer> gap = new GapArray<>();
+		boolean ok = true;
+		for (int k = 0; k < 20000; k++) {
+			if (ref.size() > 0 && rnd.nextInt(3) == 0) {
+				int i = rnd.nextInt(ref.size());
+				ok = ok && ref.remove(i).equals(gap.remove(i));
+			} else {
+				int i = rnd.nextInt(ref.size() + 1);
+				ref.add(i, k);
+				gap.add(i, k);
+			}
+		}
+		for (int i = 0; i < ref.size(); i++) {
+			ok = ok && ref.get(i).equals(gap.get(i));
+		}
+		if (ok && ref.size() == gap.size()) {
+			System.out.println("Yay 3");
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times an insert-at-cursor editing workload: a cursor starts in the middle of the list and
+ * drifts a few places between edits, and each edit inserts or deletes at the cursor. It compares the old
+ * element-by-element shifting insert, DynamicArray's block shifting insert, and GapArray.
+ */
+public class GapArrayBenchmark {
+
+	/**
+	 * The insert DynamicArray used before it shifted in one block: move one
+	 * element at a time through bounds-checked get and set calls.
+	 */
+	private static class LegacyArray {
+		private Object[] storage = new Object[2];
+		private int end = 0;
+
+		Object get(int index) {
+			if (index < 0 || index >= end) {
+				throw new IndexOutOfBoundsException("Index out of bounds!");
+			}
+			return storage[index];
+		}
+
+		void set(int index, Object value) {
+			if (index < 0 || index >= end) {
+				throw new IndexOutOfBoundsException("Index out of bounds!");
+			}
+			storage[index] = value;
+		}
+
+		void add(int index, Object value) {
+			if (end == storage.length) {
+				Object[] tempArr = new Object[storage.length * 2];
+				System.arraycopy(storage, 0, tempArr, 0, end);
+				storage = tempArr;
+			}
+			end++;
+			for (int k = end - 2; k >= index; k--) {
+				try {
+					this.set(k + 1, this.get(k));
+				} catch (IndexOutOfBoundsException e) {
+					end--;
+					break;
+				}
+			}
+			this.set(index, value);
+		}
+
+		void remove(int index) {
+			System.arraycopy(storage, index + 1, storage, index, end - index - 1);
+			storage[--end] = null;
+		}
+	}
+
+	/**
+	 * The three lists behind one interface so they run the same workload.
+	 */
+	private interface Edits {
+		void insert(int index, Integer value);
+
+		void delete(int index);
+
+		int size();
+	}
+
+	/**
+	 * @param list
+	 *            is the list to edit, already filled
+	 * @param edits
+	 *            is how many inserts and deletes to make
+	 * @return returns the nanoseconds the edits took
+	 */
+	private static long run(Edits list, int edits) {
+		long seed = 310;
+		int cursor = list.size() / 2;
+		long start = System.nanoTime();
+		for (int k = 0; k < edits; k++) {
+			seed = seed * 6364136223846793005L + 1442695040888963407L;
+			int r = (int) (seed >>> 33);
+			// drift the cursor by -4..4 and insert three times as often as
+			// deleting, like typing with the odd correction
+			cursor = Math.max(0, Math.min(list.size() - 1, cursor + (r & 7) - 4));
+			if ((r >>> 3 & 3) == 0) {
+				list.delete(cursor);
+			} else {
+				list.insert(cursor, k);
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	public static void main(String[] args) {
+		int edits = 100000;
+		System.out.println(String.format("%-10s %14s %14s %14s", "n", "legacy", "DynamicArray", "GapArray"));
+		for (int n = 1000; n <= 100000; n *= 10) {
+			LegacyArray legacy = new LegacyArray();
+			DynamicArray<Integer> dynamic = new DynamicArray<>();
+			GapArray<Integer> gap = new GapArray<>();
+			for (int i = 0; i < n; i++) {
+				legacy.add(i, i);
+				dynamic.add(i);
+				gap.add(i);
+			}
+			long a = run(new Edits() {
+				public void insert(int index, Integer value) {
+					legacy.add(index, value);
+				}
+
+				public void delete(int index) {
+					legacy.remove(index);
+				}
+
+				public int size() {
+					return legacy.end;
+				}
+			}, edits);
+			long b = run(new Edits() {
+				public void insert(int index, Integer value) {
+					dynamic.add(index, value);
+				}
+
+				public void delete(int index) {
+					dynamic.remove(index);
+				}
+
+				public int size() {
+					return dynamic.size();
+				}
+			}, edits);
+			long c = run(new Edits() {
+				public void insert(int index, Integer value) {
+					gap.add(index, value);
+				}
+
+				public void delete(int index) {
+					gap.remove(index);
+				}
+
+				public int size() {
+					return gap.size();
+				}
+			}, edits);
+			System.out.println(String.format("%-10d %11.1f ms %11.1f ms %11.1f ms", n, a / 1e6, b / 1e6, c / 1e6));
+		}
+	}
+}
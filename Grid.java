@@ -0,0 +1,176 @@
+/**
+ * Represents a two dimensional grid of cells that can grow and shrink a whole
+ * row or column at a time.
+ * <p>
+ * @author Helena Gray
+ * <b> Type Parameters </b>
+ * @param <T> type of the values stored in the cells of the grid
+ * <p>
+ * Implementations choose how the cells are laid out in memory, so a Table can
+ * be built over whichever layout suits its workload.
+ */
+
+public interface Grid<T> {
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow();
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol();
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the cell to be returned
+	 * @param indexCol
+	 *            is the column index of the cell to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the value at the row and column indices
+	 */
+	public T get(int indexRow, int indexCol);
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the cell to replace
+	 * @param indexCol
+	 *            is the column index of the cell to replace
+	 * @param value
+	 *            is the new value of the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the old value of the cell
+	 */
+	public T set(int indexRow, int indexCol, T value);
+
+	/**
+	 * @param index
+	 *            is the row index where the new row will be added
+	 * @param newRow
+	 *            is the new row, one value per column
+	 * @return returns true if the row was added, false if the index or the
+	 *         length of newRow does not fit the grid
+	 */
+	public boolean addRow(int index, DynamicArray<T> newRow);
+
+	/**
+	 * @param index
+	 *            is the column index where the new column will be added
+	 * @param newCol
+	 *            is the new column, one value per row
+	 * @return returns true if the column was added, false if the index or the
+	 *         length of newCol does not fit the grid
+	 */
+	public boolean addCol(int index, DynamicArray<T> newCol);
+
+	/**
+	 * @param index
+	 *            is the index of the row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @return returns the row that was removed
+	 */
+	public DynamicArray<T> removeRow(int index);
+
+	/**
+	 * @param index
+	 *            is the index of the column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @return returns the column that was removed
+	 */
+	public DynamicArray<T> removeCol(int index);
+
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit the grid, and then nothing is
+	 *         added
+	 */
+	public default boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// one addRow per row, layouts override this to shift only once
+		if (index < 0 || index > this.getNumRow()) {
+			return false;
+		}
+		int length = this.getNumRow() == 0 && newRows.size() != 0 ? newRows.get(0).size() : this.getNumCol();
+		for (int k = 0; k < newRows.size(); k++) {
+			if (newRows.get(k).size() != length) {
+				return false;
+			}
+		}
+		for (int k = 0; k < newRows.size(); k++) {
+			this.addRow(index + k, newRows.get(k));
+		}
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit the grid, and then nothing
+	 *         is added
+	 */
+	public default boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+		// one addCol per column, layouts override this to shift only once
+		if (index < 0 || index > this.getNumCol() || this.getNumRow() == 0) {
+			return false;
+		}
+		for (int k = 0; k < newCols.size(); k++) {
+			if (newCols.get(k).size() != this.getNumRow()) {
+				return false;
+			}
+		}
+		for (int k = 0; k < newCols.size(); k++) {
+			this.addCol(index + k, newCols.get(k));
+		}
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	public default void removeRows(int from, int to) {
+		// one removeRow per row, layouts override this to shift only once
+		if (from < 0 || to > this.getNumRow() || from > to) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int k = from; k < to; k++) {
+			this.removeRow(from);
+		}
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	public default void removeCols(int from, int to) {
+		// one removeCol per column, layouts override this to shift only once
+		if (from < 0 || to > this.getNumCol() || from > to) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int k = from; k < to; k++) {
+			this.removeCol(from);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class compares the memory used by and the time to scan 10^7 cell grids in each grid layout, in row
+ * order and in column order.
+ */
+public class GridBenchmark {
+
+	// wide and tall shapes of the same 10^7 cells
+	private static final int[][] SHAPES = { { 2000, 5000 }, { 1000000, 10 } };
+
+	/**
+	 * @return returns the number of bytes currently used on the heap
+	 */
+	private static long usedMemory() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	/**
+	 * @param grid
+	 *            is an empty grid to fill with rows x cols cells
+	 * @param rows
+	 *            is the number of rows to add
+	 * @param cols
+	 *            is the number of columns in each row
+	 */
+	private static void fill(Grid<Integer> grid, int rows, int cols) {
+		// every cell shares one Integer so only the layout is measured
+		Integer cell = 7;
+		DynamicArray<Integer> row = new DynamicArray<>(cols);
+		for (int c = 0; c < cols; c++) {
+			row.add(cell);
+		}
+		for (int r = 0; r < rows; r++) {
+			grid.addRow(r, row);
+		}
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to scan
+	 * @return returns the average nanoseconds per cell of a row-order scan
+	 */
+	private static double scanRows(Grid<Integer> grid) {
+		long best = Long.MAX_VALUE;
+		long sink = 0;
+		for (int rep = 0; rep < 5; rep++) {
+			long start = System.nanoTime();
+			for (int r = 0; r < grid.getNumRow(); r++) {
+				for (int c = 0; c < grid.getNumCol(); c++) {
+					sink += grid.get(r, c);
+				}
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return sink == 42 ? -1 : best / (double) (grid.getNumRow() * grid.getNumCol());
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to scan
+	 * @return returns the average nanoseconds per cell of a column-order scan
+	 */
+	private static double scanCols(Grid<Integer> grid) {
+		long best = Long.MAX_VALUE;
+		long sink = 0;
+		for (int rep = 0; rep < 5; rep++) {
+			long start = System.nanoTime();
+			for (int c = 0; c < grid.getNumCol(); c++) {
+				for (int r = 0; r < grid.getNumRow(); r++) {
+					sink += grid.get(r, c);
+				}
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return sink == 42 ? -1 : best / (double) (grid.getNumRow() * grid.getNumCol());
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to insert and remove columns in
+	 * @return returns the average nanoseconds to insert and then remove one
+	 *         column in the middle of the grid
+	 */
+	private static double churnCols(Grid<Integer> grid) {
+		int reps = 20;
+		DynamicArray<Integer> col = new DynamicArray<>(grid.getNumRow());
+		for (int r = 0; r < grid.getNumRow(); r++) {
+			col.add(r);
+		}
+		long start = System.nanoTime();
+		for (int rep = 0; rep < reps; rep++) {
+			grid.addCol(grid.getNumCol() / 2, col);
+			grid.removeCol(grid.getNumCol() / 2);
+		}
+		return (System.nanoTime() - start) / (double) reps;
+	}
+
+	/**
+	 * @param name
+	 *            is the label to print
+	 * @param grid
+	 *            is an empty grid of the layout to measure
+	 * @param shape
+	 *            is the number of rows and columns to fill the grid with
+	 */
+	private static void measure(String name, Grid<Integer> grid, int[] shape) {
+		long before = usedMemory();
+		fill(grid, shape[0], shape[1]);
+		long bytes = usedMemory() - before;
+		double rowNs = scanRows(grid);
+		double colNs = scanCols(grid);
+		double churnMs = churnCols(grid) / 1e6;
+		System.out.println(String.format(
+				"%-14s %10.1f MB %8.2f ns/cell row scan %8.2f ns/cell column scan %10.2f ms/column add+remove", name,
+				bytes / 1e6, rowNs, colNs, churnMs));
+	}
+
+	public static void main(String[] args) {
+		for (int[] shape : SHAPES) {
+			System.out.println(shape[0] + " x " + shape[1] + " cells");
+			measure("DynamicGrid", new DynamicGrid<Integer>(), shape);
+			measure("FlatGrid", new FlatGrid<Integer>(), shape);
+			measure("ColumnGrid", new ColumnGrid<Integer>(), shape);
+			measure("TiledGrid", new TiledGrid<Integer>(), shape);
+		}
+	}
+}
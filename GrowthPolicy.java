@@ -0,0 +1,127 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class decides how a DynamicArray grows when it is full and when it gives memory back. A full array
+ * grows to capacity * factor + step. An array shrinks once more than maxWaste of its capacity is unused,
+ * stepping back down the way it grew but never below the capacity it needs or minCapacity. The default
+ * policy doubles and halves below 1/3 full, as DynamicArray always has; a smaller factor trades more
+ * frequent copies for less unused memory in large arrays.
+ */
+public class GrowthPolicy {
+
+	// the largest array most virtual machines will allocate
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Double when full, halve when less than 1/3 full, never below 2.
+	 */
+	public static final GrowthPolicy DOUBLING = new GrowthPolicy(2.0, 0, 2.0 / 3, 2);
+
+	private final double factor; // how much capacity is multiplied by when full
+	private final int step; // how many slots are added on top of the factor
+	private final double maxWaste; // most of the capacity that may go unused before shrinking
+	private final int minCapacity; // capacity never shrinks below this
+
+	/**
+	 * @param factor
+	 *            is what the capacity is multiplied by when the array is full,
+	 *            at least 1
+	 * @param step
+	 *            is how many slots are added after multiplying, at least 0,
+	 *            and at least 1 if factor is 1
+	 * @param maxWaste
+	 *            is the fraction of the capacity that may be unused before the
+	 *            array shrinks, greater than 1 - 1/factor so a shrink is never
+	 *            undone by the next add, and at most 1 to never shrink
+	 * @param minCapacity
+	 *            is the capacity the array never shrinks below, at least 1
+	 * @throws IllegalArgumentException
+	 *             if any argument is out of range
+	 */
+	public GrowthPolicy(double factor, int step, double maxWaste, int minCapacity) {
+		if (factor < 1 || step < 0 || (factor == 1 && step == 0)) {
+			throw new IllegalArgumentException("Policy must grow!");
+		}
+		if (maxWaste <= 1 - 1 / factor || maxWaste > 1) {
+			throw new IllegalArgumentException("Waste must be between 1 - 1/factor and 1!");
+		}
+		if (minCapacity < 1) {
+			throw new IllegalArgumentException("Capacity cannot be smaller than 1!");
+		}
+		this.factor = factor;
+		this.step = step;
+		this.maxWaste = maxWaste;
+		this.minCapacity = minCapacity;
+	}
+
+	/**
+	 * @param capacity
+	 *            is the current capacity
+	 * @param needed
+	 *            is the capacity that has to fit after growing
+	 * @throws IllegalStateException
+	 *             if needed is more than an array can hold
+	 * @return returns the capacity to grow to, at least needed
+	 */
+	public int grow(int capacity, int needed) {
+		// O(1)
+		if (needed < 0 || needed > MAX_CAPACITY) {
+			throw new IllegalStateException("Array is too large!");
+		}
+		long next = (long) Math.ceil(capacity * factor) + step;
+		return (int) Math.max(needed, Math.min(next, MAX_CAPACITY));
+	}
+
+	/**
+	 * @param capacity
+	 *            is the current capacity
+	 * @param size
+	 *            is how many slots are in use
+	 * @return returns the capacity to shrink to, or capacity to keep it
+	 */
+	public int shrink(int capacity, int size) {
+		// O(log(capacity/size)) steps, usually one
+		int next = capacity;
+		// less than (1 - maxWaste) full, with room for rounding so that an
+		// exact 1/3 full array is not shrunk
+		while (size < next * (1 - maxWaste) - 1e-9) {
+			// step back down the way grow went up
+			int smaller = Math.max(size, (int) ((next - step) / factor));
+			if (smaller < minCapacity || smaller >= next) {
+				break;
+			}
+			next = smaller;
+		}
+		return next;
+	}
+
+	/**
+	 * @return returns the smallest capacity the array shrinks to
+	 */
+	public int getMinCapacity() {
+		// O(1)
+		return minCapacity;
+	}
+
+	public static void main(String[] args) {
+		GrowthPolicy doubling = GrowthPolicy.DOUBLING;
+		if (doubling.grow(2, 3) == 4 && doubling.grow(8, 9) == 16 && doubling.grow(4, 100) == 100
+				&& doubling.shrink(12, 3) == 6 && doubling.shrink(12, 4) == 12 && doubling.shrink(4, 0) == 2
+				&& doubling.shrink(2, 0) == 2 && doubling.shrink(64, 1) == 2) {
+			System.out.println("Yay 1");
+		}
+
+		GrowthPolicy lean = new GrowthPolicy(1.25, 16, 0.5, 16);
+		if (lean.grow(16, 17) == 36 && lean.grow(1000, 1001) == 1266 && lean.shrink(1266, 700) == 1266
+				&& lean.shrink(1266, 600) == 1000) {
+			System.out.println("Yay 2");
+		}
+
+		try {
+			new GrowthPolicy(2.0, 0, 0.4, 2);
+		} catch (IllegalArgumentException e) {
+			System.out.println("Yay 3");
+		}
+	}
+}
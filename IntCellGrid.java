@@ -0,0 +1,76 @@
+/**
+ * Represents a grid of int cells that can be read and written without boxing.
+ * <p>
+ * @author Helena Gray
+ * <p>
+ * Table fills whole rows and columns of any IntCellGrid through IntKernels, so
+ * the unboxed path works the same whether the cells live on the heap or off it.
+ */
+
+public interface IntCellGrid extends Grid<Integer> {
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to be returned
+	 * @param indexCol
+	 *            is the column index of the value to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the value at the row and column indices
+	 */
+	public int getInt(int indexRow, int indexCol);
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to replace
+	 * @param indexCol
+	 *            is the column index of the value to replace
+	 * @param value
+	 *            is the value to put in the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the old value of the cell
+	 */
+	public int setInt(int indexRow, int indexCol, int value);
+
+	/**
+	 * @param indexRow
+	 *            is the index of the row to overwrite
+	 * @param values
+	 *            holds the new values of the row in its first getNumCol()
+	 *            slots
+	 * @throws IndexOutOfBoundsException
+	 *             if indexRow is out of range
+	 */
+	public void setRow(int indexRow, int[] values);
+
+	/**
+	 * @param indexCol
+	 *            is the index of the column to overwrite
+	 * @param values
+	 *            holds the new values of the column in its first getNumRow()
+	 *            slots
+	 * @throws IndexOutOfBoundsException
+	 *             if indexCol is out of range
+	 */
+	public void setCol(int indexCol, int[] values);
+
+	/**
+	 * @param index
+	 *            is the row index of the grid where the new row will be added
+	 * @param newRow
+	 *            is the new row, its length is the number of columns
+	 * @return returns true if the row was added
+	 */
+	public boolean addRow(int index, int[] newRow);
+
+	/**
+	 * @param index
+	 *            is the column index of the grid where the new column will be
+	 *            added
+	 * @param newCol
+	 *            is the new column, its length is the number of rows
+	 * @return returns true if the column was added
+	 */
+	public boolean addCol(int index, int[] newCol);
+}
@@ -0,0 +1,528 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid of int values kept unboxed in one contiguous row-major int[]. It is a
+ * Grid of Integers so a Table can be built over it, and Table fills whole rows and columns of it through
+ * IntKernels instead of boxing one Integer per cell. Cells cannot hold null.
+ */
+public class IntGrid implements IntCellGrid {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of each axis
+	private int[] cells; // underlying storage, cell (r, c) lives at r * colCap + c
+	private int rowCap; // how many rows fit before cells has to grow
+	private int colCap; // the row stride, how many columns fit before a relayout
+	private int numRow = 0;
+	private int numCol = 0;
+
+	public IntGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this(INITCAP, INITCAP);
+	}
+
+	/**
+	 * @param rowCapacity
+	 *            is how many rows the grid can hold before growing
+	 * @param colCapacity
+	 *            is how many columns the grid can hold before growing
+	 */
+	public IntGrid(int rowCapacity, int colCapacity) {
+		// constructor
+		// throw IllegalArgumentException if either capacity < 1
+		if (rowCapacity < 1 || colCapacity < 1) {
+			throw new IllegalArgumentException("Grid cannot be smaller than 1x1!");
+		}
+		this.rowCap = rowCapacity;
+		this.colCap = colCapacity;
+		this.cells = new int[rowCapacity * colCapacity];
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to be returned
+	 * @param indexCol
+	 *            is the column index of the value to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the value at the row and column indices
+	 */
+	public int getInt(int indexRow, int indexCol) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return cells[indexRow * colCap + indexCol];
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the value to replace
+	 * @param indexCol
+	 *            is the column index of the value to replace
+	 * @param value
+	 *            is the value to put in the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the old value of the cell
+	 */
+	public int setInt(int indexRow, int indexCol, int value) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int slot = indexRow * colCap + indexCol;
+		int oldItem = cells[slot];
+		cells[slot] = value;
+		return oldItem;
+	}
+
+	@Override
+	public Integer get(int indexRow, int indexCol) {
+		return this.getInt(indexRow, indexCol);
+	}
+
+	@Override
+	public Integer set(int indexRow, int indexCol, Integer value) {
+		return this.setInt(indexRow, indexCol, value);
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the index of the row to overwrite
+	 * @param values
+	 *            holds the new values of the row in its first getNumCol()
+	 *            slots
+	 * @throws IndexOutOfBoundsException
+	 *             if indexRow is out of range
+	 */
+	public void setRow(int indexRow, int[] values) {
+		// O(C) where C is the number of columns
+		if (indexRow < 0 || indexRow >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		System.arraycopy(values, 0, cells, indexRow * colCap, numCol);
+	}
+
+	/**
+	 * @param indexCol
+	 *            is the index of the column to overwrite
+	 * @param values
+	 *            holds the new values of the column in its first getNumRow()
+	 *            slots
+	 * @throws IndexOutOfBoundsException
+	 *             if indexCol is out of range
+	 */
+	public void setCol(int indexCol, int[] values) {
+		// O(R) where R is the number of rows
+		if (indexCol < 0 || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells[r * colCap + indexCol] = values[r];
+		}
+	}
+
+	/**
+	 * @param index
+	 *            is the row index of the grid where the new row will be added
+	 * @param newRow
+	 *            is the new row, its length is the number of columns
+	 * @return returns true if the row was added
+	 */
+	public boolean addRow(int index, int[] newRow) {
+		// amortized O(C + (R-index)C) where R is the number of rows and C is
+		// the number of columns of the grid
+		if (!this.openRow(index, newRow.length)) {
+			return false;
+		}
+		System.arraycopy(newRow, 0, cells, index * colCap, numCol);
+		return true;
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<Integer> newRow) {
+		if (!this.openRow(index, newRow.size())) {
+			return false;
+		}
+		int start = index * colCap;
+		for (int i = 0; i < numCol; i++) {
+			cells[start + i] = newRow.get(i);
+		}
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index of the grid where the new column will be
+	 *            added
+	 * @param newCol
+	 *            is the new column, its length is the number of rows
+	 * @return returns true if the column was added
+	 */
+	public boolean addCol(int index, int[] newCol) {
+		// amortized O(R(C-index)) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (!this.openCol(index, newCol.length)) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells[r * colCap + index] = newCol[r];
+		}
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<Integer> newCol) {
+		if (!this.openCol(index, newCol.size())) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells[r * colCap + index] = newCol.get(r);
+		}
+		return true;
+	}
+
+	@Override
+	public DynamicArray<Integer> removeRow(int index) {
+		// O((R-index)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int start = index * colCap;
+		DynamicArray<Integer> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int i = 0; i < numCol; i++) {
+			oldRow.add(cells[start + i]);
+		}
+		// shift the rows below index up one stride in a single block
+		System.arraycopy(cells, start + colCap, cells, start, (numRow - index - 1) * colCap);
+		numRow--;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity if fewer than 1/3 of the rows are used
+		if (numRow < rowCap / 3.0 && rowCap / 2 >= INITCAP) {
+			this.relayout(rowCap / 2, colCap);
+		}
+		return oldRow;
+	}
+
+	@Override
+	public DynamicArray<Integer> removeCol(int index) {
+		// O(R(C-index)) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<Integer> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			oldCol.add(cells[start + index]);
+			System.arraycopy(cells, start + index + 1, cells, start + index, numCol - index - 1);
+		}
+		numCol--;
+		return oldCol;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<Integer>> newRows) {
+		// amortized O(KC + (R-index)C) where K is the number of new rows, R
+		// is the number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		int count = newRows.size();
+		int length = numRow == 0 && count != 0 ? newRows.get(0).size() : numCol;
+		for (int k = 0; k < count; k++) {
+			if (newRows.get(k).size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+		}
+		if (numRow == 0) {
+			// the first rows decide how many columns the grid has
+			if (length > colCap) {
+				this.relayout(rowCap, length);
+			}
+			numCol = length;
+		}
+		// double the row capacity as often as needed, but relayout once
+		if (numRow + count > rowCap) {
+			int newRowCap = rowCap;
+			while (newRowCap < numRow + count) {
+				newRowCap *= 2;
+			}
+			this.relayout(newRowCap, colCap);
+		}
+		// shift the rows below index down in a single block
+		int start = index * colCap;
+		System.arraycopy(cells, start, cells, start + count * colCap, (numRow - index) * colCap);
+		for (int k = 0; k < count; k++) {
+			DynamicArray<Integer> newRow = newRows.get(k);
+			int rowStart = start + k * colCap;
+			for (int i = 0; i < numCol; i++) {
+				cells[rowStart + i] = newRow.get(i);
+			}
+		}
+		numRow += count;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<Integer>> newCols) {
+		// amortized O(R(C-index+K)) where K is the number of new columns, R is
+		// the number of rows and C is the number of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0) {
+			return false;
+		}
+		int count = newCols.size();
+		for (int k = 0; k < count; k++) {
+			if (newCols.get(k).size() != numRow) {
+				return false;
+			}
+		}
+		// double the column capacity as often as needed, but relayout once
+		if (numCol + count > colCap) {
+			int newColCap = colCap;
+			while (newColCap < numCol + count) {
+				newColCap *= 2;
+			}
+			this.relayout(rowCap, newColCap);
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + index, cells, start + index + count, numCol - index);
+			for (int k = 0; k < count; k++) {
+				cells[start + index + k] = newCols.get(k).get(r);
+			}
+		}
+		numCol += count;
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	@Override
+	public void removeRows(int from, int to) {
+		// O((R-from)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (from < 0 || to > numRow || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// shift the rows below the range up in a single block
+		System.arraycopy(cells, to * colCap, cells, from * colCap, (numRow - to) * colCap);
+		numRow -= to - from;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity as often as removeRow would, but relayout once
+		int newRowCap = rowCap;
+		while (numRow < newRowCap / 3.0 && newRowCap / 2 >= INITCAP) {
+			newRowCap /= 2;
+		}
+		if (newRowCap != rowCap) {
+			this.relayout(newRowCap, colCap);
+		}
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	@Override
+	public void removeCols(int from, int to) {
+		// O(R(C-from)) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (from < 0 || to > numCol || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int count = to - from;
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + to, cells, start + from, numCol - to);
+		}
+		numCol -= count;
+	}
+
+	/**
+	 * Make room for a new row at index, checking its length first.
+	 *
+	 * @param index
+	 *            is where the new row goes
+	 * @param length
+	 *            is the length of the new row
+	 * @return returns false if the row cannot be added
+	 */
+	private boolean openRow(int index, int length) {
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			if (length > colCap) {
+				this.relayout(rowCap, length);
+			}
+			numCol = length;
+		} else if (length != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		// double the row capacity if no space is available
+		if (numRow == rowCap) {
+			this.relayout(rowCap * 2, colCap);
+		}
+		int start = index * colCap;
+		System.arraycopy(cells, start, cells, start + colCap, (numRow - index) * colCap);
+		numRow++;
+		return true;
+	}
+
+	/**
+	 * Make room for a new column at index, checking its length first.
+	 *
+	 * @param index
+	 *            is where the new column goes
+	 * @param length
+	 *            is the length of the new column
+	 * @return returns false if the column cannot be added
+	 */
+	private boolean openCol(int index, int length) {
+		if (index < 0 || index > numCol || numRow == 0 || length != numRow) {
+			return false;
+		}
+		// double the column capacity (the row stride) if no space is available
+		if (numCol == colCap) {
+			this.relayout(rowCap, colCap * 2);
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			System.arraycopy(cells, start + index, cells, start + index + 1, numCol - index);
+		}
+		numCol++;
+		return true;
+	}
+
+	/**
+	 * @param newRowCap
+	 *            is the new row capacity, at least the number of rows
+	 * @param newColCap
+	 *            is the new column capacity (row stride), at least the number
+	 *            of columns
+	 */
+	private void relayout(int newRowCap, int newColCap) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		if (newColCap == colCap) {
+			// same stride, the used rows are already one contiguous block
+			cells = Arrays.copyOf(cells, newRowCap * newColCap);
+		} else {
+			int[] tempCells = new int[newRowCap * newColCap];
+			for (int r = 0; r < numRow; r++) {
+				System.arraycopy(cells, r * colCap, tempCells, r * newColCap, numCol);
+			}
+			cells = tempCells;
+		}
+		rowCap = newRowCap;
+		colCap = newColCap;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(cells[r * colCap + c]).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		IntGrid igrid = new IntGrid();
+		boolean ok = true;
+		for (int i = 0; i < 3; i++) {
+			ok = ok && igrid.addRow(igrid.getNumRow(), new int[] { (i + 1) * 10 });
+		}
+		if (ok && igrid.getNumRow() == 3 && igrid.getNumCol() == 1 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 1");
+		}
+
+		if (!igrid.addCol(1, new int[] { -10, -20 }) && igrid.addCol(1, new int[] { -10, -20, -30 })
+				&& igrid.getNumCol() == 2 && igrid.getInt(2, 1) == -30) {
+			System.out.println("Yay 2");
+		}
+
+		if (!igrid.addRow(5, new int[] { 5, 10 }) && igrid.addRow(0, new int[] { 5, 10 }) && igrid.getNumRow() == 4
+				&& igrid.get(0, 0) == 5 && igrid.get(3, 1) == -30) {
+			System.out.println("Yay 3");
+		}
+
+		DynamicArray<Integer> icol = igrid.removeCol(1);
+		DynamicArray<Integer> irow = igrid.removeRow(0);
+		if (igrid.getNumRow() == 3 && igrid.getNumCol() == 1 && icol.get(0) == 10 && irow.get(0) == 5
+				&& igrid.get(0, 0) == 10 && igrid.get(2, 0) == 30) {
+			System.out.println("Yay 4");
+		}
+
+		igrid.setCol(0, new int[] { 1, 2, 3 });
+		if (igrid.set(1, 0, 7) == 2 && igrid.getInt(1, 0) == 7 && igrid.getInt(2, 0) == 3) {
+			System.out.println("Yay 5");
+		}
+	}
+
+}
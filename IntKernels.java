@@ -0,0 +1,116 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class fills whole rows and columns of int cells for an IntegerComb. An IntegerAdder or IntegerTimer
+ * table is an outer sum or outer product of its header vectors, so for those two combiners a row is one
+ * operand broadcast against an array of the other. When the optional vector/ source root is compiled and
+ * the jdk.incubator.vector module is added at run time, VectorIntKernels does this in SIMD lanes;
+ * otherwise the combiner's own int[] loop is used.
+ */
+public class IntKernels {
+
+	/**
+	 * The lane-wise loops a SIMD implementation provides.
+	 */
+	interface Lanes {
+		void add(int operand1, int[] operands2, int[] dest, int n);
+
+		void mul(int operand1, int[] operands2, int[] dest, int n);
+	}
+
+	// the SIMD loops, or null if the vector module could not be loaded
+	private static final Lanes LANES = loadLanes();
+
+	/**
+	 * @return returns the SIMD loops, or null if they are not available
+	 */
+	private static Lanes loadLanes() {
+		try {
+			return (Lanes) Class.forName("VectorIntKernels").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// not compiled in, or jdk.incubator.vector was not added at run time
+			return null;
+		}
+	}
+
+	/**
+	 * @return returns true if rows and columns are filled in SIMD lanes
+	 */
+	public static boolean isVectorized() {
+		return LANES != null;
+	}
+
+	/**
+	 * @param op
+	 *            is the combiner
+	 * @param operand1
+	 *            is the first operand of every combination
+	 * @param operands2
+	 *            holds the second operands
+	 * @param dest
+	 *            is where result i is written
+	 * @param n
+	 *            is how many results to calculate
+	 */
+	public static void combineRow(IntegerComb op, int operand1, int[] operands2, int[] dest, int n) {
+		// O(n)
+		if (LANES != null && op.getClass() == IntegerAdder.class) {
+			LANES.add(operand1, operands2, dest, n);
+		} else if (LANES != null && op.getClass() == IntegerTimer.class) {
+			LANES.mul(operand1, operands2, dest, n);
+		} else {
+			op.combineRow(operand1, operands2, dest, n);
+		}
+	}
+
+	/**
+	 * @param op
+	 *            is the combiner
+	 * @param operands1
+	 *            holds the first operands
+	 * @param operand2
+	 *            is the second operand of every combination
+	 * @param dest
+	 *            is where result i is written
+	 * @param n
+	 *            is how many results to calculate
+	 */
+	public static void combineCol(IntegerComb op, int[] operands1, int operand2, int[] dest, int n) {
+		// O(n)
+		// addition and multiplication commute so a column is a row with the
+		// operands swapped
+		if (LANES != null && op.getClass() == IntegerAdder.class) {
+			LANES.add(operand2, operands1, dest, n);
+		} else if (LANES != null && op.getClass() == IntegerTimer.class) {
+			LANES.mul(operand2, operands1, dest, n);
+		} else {
+			op.combineCol(operands1, operand2, dest, n);
+		}
+	}
+
+	/**
+	 * @param values
+	 *            is a list of Integers with no nulls
+	 * @return returns the values unboxed into an int[]
+	 */
+	public static int[] toInts(DynamicArray<Integer> values) {
+		// O(N)
+		int[] ints = new int[values.size()];
+		for (int i = 0; i < ints.length; i++) {
+			ints[i] = values.get(i);
+		}
+		return ints;
+	}
+
+	public static void main(String[] args) {
+		int[] b = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 };
+		int[] dest = new int[b.length];
+		combineRow(new IntegerAdder(), 10, b, dest, b.length);
+		boolean ok = dest[0] == 11 && dest[16] == 27;
+		combineCol(new IntegerTimer(), b, 3, dest, b.length);
+		if (ok && dest[0] == 3 && dest[16] == 51) {
+			System.out.println("Yay 1 (vectorized: " + isVectorized() + ")");
+		}
+	}
+}
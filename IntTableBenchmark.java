@@ -0,0 +1,65 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times IntegerAdder and IntegerTimer tables of 4096 x 4096 cells over a boxed FlatGrid and an
+ * unboxed IntGrid, for a full setOp and for inserting a single row and column. Build vector/ as readme.txt
+ * describes and run it with and without --add-modules jdk.incubator.vector to compare the SIMD and scalar
+ * kernels.
+ */
+public class IntTableBenchmark {
+
+	private static final int N = 4096;
+
+	/**
+	 * @param board
+	 *            is the empty grid to build the table over
+	 * @return returns an N x N IntegerAdder table
+	 */
+	private static Table<Integer, Integer, Integer, IntegerComb> build(Grid<Integer> board) {
+		Table<Integer, Integer, Integer, IntegerComb> table = new Table<>(new IntegerAdder(), board);
+		for (int i = 0; i < N; i++) {
+			table.addRow(i, i * 7);
+		}
+		for (int i = 0; i < N; i++) {
+			table.addCol(i, i * 3);
+		}
+		return table;
+	}
+
+	/**
+	 * @param name
+	 *            is the label to print
+	 * @param board
+	 *            is the empty grid to build the table over
+	 */
+	private static void measure(String name, Grid<Integer> board) {
+		Table<Integer, Integer, Integer, IntegerComb> table = build(board);
+		long best = Long.MAX_VALUE;
+		for (int rep = 0; rep < 5; rep++) {
+			long start = System.nanoTime();
+			table.setOp(rep % 2 == 0 ? new IntegerTimer() : new IntegerAdder());
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		long rowBest = Long.MAX_VALUE;
+		long colBest = Long.MAX_VALUE;
+		for (int rep = 0; rep < 20; rep++) {
+			long start = System.nanoTime();
+			table.addRow(N / 2, rep);
+			rowBest = Math.min(rowBest, System.nanoTime() - start);
+			table.removeRow(N / 2);
+			start = System.nanoTime();
+			table.addCol(N / 2, rep);
+			colBest = Math.min(colBest, System.nanoTime() - start);
+			table.removeCol(N / 2);
+		}
+		System.out.println(String.format("%-10s setOp %8.1f ms   addRow %8.3f ms   addCol %8.3f ms", name,
+				best / 1e6, rowBest / 1e6, colBest / 1e6));
+	}
+
+	public static void main(String[] args) {
+		System.out.println(N + " x " + N + " cells, vectorized kernels: " + IntKernels.isVectorized());
+		measure("FlatGrid", new FlatGrid<Integer>());
+		measure("IntGrid", new IntGrid());
+	}
+}
@@ -3,7 +3,36 @@
  * @author CS310 GMU
  */
  
-abstract class IntegerComb implements Combiner<Integer,Integer,Integer> { }
+abstract class IntegerComb implements Combiner<Integer,Integer,Integer> {
+
+	/**
+	 *  Combine operand1 with the first n values of operands2 and write the
+	 *  results to the first n slots of dest, without boxing.
+	 *  @param operand1 first operand of every combination
+	 *  @param operands2 second operands
+	 *  @param dest where result i is written
+	 *  @param n how many results to calculate
+	 */
+	public void combineRow(int operand1, int[] operands2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = combine(operand1, operands2[i]);
+		}
+	}
+
+	/**
+	 *  Combine the first n values of operands1 with operand2 and write the
+	 *  results to the first n slots of dest, without boxing.
+	 *  @param operands1 first operands
+	 *  @param operand2 second operand of every combination
+	 *  @param dest where result i is written
+	 *  @param n how many results to calculate
+	 */
+	public void combineCol(int[] operands1, int operand2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = combine(operands1[i], operand2);
+		}
+	}
+}
 
 /**
  * An integer combiner for addition operation. 
@@ -24,7 +53,37 @@ class IntegerAdder extends IntegerComb{
 	public Integer combine(Integer operand1, Integer operand2){
 		return operand1 + operand2;
 	}
-	
+
+	@Override
+	public void combineRow(Integer operand1, DynamicArray<Integer> operands2, DynamicArray<Integer> dest){
+		int a = operand1;
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(a + operands2.get(i));
+		}
+	}
+
+	@Override
+	public void combineCol(DynamicArray<Integer> operands1, Integer operand2, DynamicArray<Integer> dest){
+		int b = operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(operands1.get(i) + b);
+		}
+	}
+
+	@Override
+	public void combineRow(int operand1, int[] operands2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = operand1 + operands2[i];
+		}
+	}
+
+	@Override
+	public void combineCol(int[] operands1, int operand2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = operands1[i] + operand2;
+		}
+	}
+
 	/**
 	 *  A main method to test/demo
 	 *  @param args not used
@@ -54,6 +113,36 @@ class IntegerAdder extends IntegerComb{
 		return operand1 * operand2;
 	}
 
+	@Override
+	public void combineRow(Integer operand1, DynamicArray<Integer> operands2, DynamicArray<Integer> dest){
+		int a = operand1;
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(a * operands2.get(i));
+		}
+	}
+
+	@Override
+	public void combineCol(DynamicArray<Integer> operands1, Integer operand2, DynamicArray<Integer> dest){
+		int b = operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(operands1.get(i) * b);
+		}
+	}
+
+	@Override
+	public void combineRow(int operand1, int[] operands2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = operand1 * operands2[i];
+		}
+	}
+
+	@Override
+	public void combineCol(int[] operands1, int operand2, int[] dest, int n){
+		for (int i = 0; i < n; i++) {
+			dest[i] = operands1[i] * operand2;
+		}
+	}
+
 	/**
 	 *  A main method to test/demo
 	 *  @param args not used
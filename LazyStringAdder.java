@@ -0,0 +1,34 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is a StringAdder whose results are ConcatString views of the two operands instead of new
+ * strings, so a table of them holds one small node per cell that shares the row and column header strings.
+ */
+public class LazyStringAdder implements Combiner<String, String, CharSequence> {
+
+	/**
+	 * @param operand1
+	 *            first string
+	 * @param operand2
+	 *            second string
+	 * @return returns a view of the concatenation with one space padded in
+	 *         between
+	 */
+	public CharSequence combine(String operand1, String operand2) {
+		// O(1)
+		return new ConcatString(operand1, " ", operand2);
+	}
+
+	public static void main(String[] args) {
+		LazyStringAdder adder = new LazyStringAdder();
+		Table<String, String, CharSequence, LazyStringAdder> stable = new Table<>(adder);
+		stable.addRow(0, "red");
+		stable.addRow(1, "yellow");
+		stable.addCol(0, "apple");
+		stable.addCol(1, "kiwi");
+		if (stable.getCell(1, 1).toString().equals("yellow kiwi") && stable.getCell(0, 0).length() == 9) {
+			System.out.println("Yay 1");
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is a StringTimer whose results are RepeatedString views instead of built strings, so a table
+ * of repeated strings takes constant memory per cell and only expands a cell when it is turned into a
+ * String.
+ */
+public class LazyStringTimer implements Combiner<String, Integer, CharSequence> {
+
+	/**
+	 * @param operand1
+	 *            is the string to be repeated
+	 * @param operand2
+	 *            is the number of times to repeat the string
+	 * @return returns a view of operand1 repeated operand2 times
+	 */
+	public CharSequence combine(String operand1, Integer operand2) {
+		// O(1)
+		return new RepeatedString(operand1, operand2);
+	}
+
+	public static void main(String[] args) {
+		LazyStringTimer st = new LazyStringTimer();
+		if (st.combine("a", 1).toString().equals("a") && st.combine("ab", 3).toString().equals("ababab")
+				&& st.combine("abc", -1).length() == 0) {
+			System.out.println("Yay 1");
+		}
+	}
+}
@@ -0,0 +1,322 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is a Table whose cells are only calculated when they are read. A cell is combined on the
+ * first getCell and cached until its row head, column head or the operation changes. Changing a head or
+ * the operation never touches the cells: every head and the operation carry a stamp from one clock, and a
+ * cached cell is stale when any of its three stamps is newer than the time it was calculated.
+ */
+public class LazyTable<RowType, ColType, CellType, OpType extends Combiner<RowType, ColType, CellType>> {
+
+	/**
+	 * A cached cell value and the clock time it was calculated at.
+	 */
+	private static class Cell<V> {
+		private V value;
+		private long stamp = -1; // -1 means never calculated
+	}
+
+	private DynamicArray<RowType> rowHead; // rowHead as a list of RowType values
+	private DynamicArray<ColType> colHead; // colHead as a list of ColType values
+	private LongDynamicArray rowStamp; // when each row head last changed
+	private LongDynamicArray colStamp; // when each column head last changed
+	private Grid<Cell<CellType>> board; // cached cells, null until first read
+	private OpType op; // op that defines a function f: f(RowType,ColType)->CellType
+	private long opStamp = 0; // when op last changed
+	private long clock = 0; // ticks once for every head or op change
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 */
+	public LazyTable(OpType op) {
+		// constructor
+		// create an table of empty rowHead and colHead, board of 0 rows and 0
+		// cols
+		rowHead = new DynamicArray<>();
+		colHead = new DynamicArray<>();
+		rowStamp = new LongDynamicArray();
+		colStamp = new LongDynamicArray();
+		board = new FlatGrid<>();
+		this.op = op;
+	}
+
+	/**
+	 * @return returns the the number of rows in the table
+	 */
+	public int getSizeRow() {
+		// O(1)
+		return rowHead.size();
+	}
+
+	/**
+	 * @return returns the the number of columns in the table
+	 */
+	public int getSizeCol() {
+		// O(1)
+		return colHead.size();
+	}
+
+	/**
+	 * @param r
+	 *            the index of the row
+	 * @return returns the row label of row r
+	 */
+	public RowType getRowHead(int r) {
+		// O(1)
+		// get method throws IndexOutOfBoundsException for invalid index
+		return rowHead.get(r);
+	}
+
+	/**
+	 * @param c
+	 *            the index of the column
+	 * @return returns the column label of column c
+	 */
+	public ColType getColHead(int c) {
+		// O(1)
+		// get method throws IndexOutOfBoundsException for invalid index
+		return colHead.get(c);
+	}
+
+	/**
+	 * @param r
+	 *            the index of the row
+	 * @param c
+	 *            the index of the column
+	 * @throws IndexOutOfBoundsException
+	 *             if r or c is out of range
+	 * @return returns the contents of the cell at row r and column c,
+	 *         calculating it first if it is not cached or is stale
+	 */
+	public CellType getCell(int r, int c) {
+		// O(1) plus one combine if the cell is stale
+		RowType rh = rowHead.get(r);
+		ColType ch = colHead.get(c);
+		Cell<CellType> cell = board.get(r, c);
+		if (cell == null) {
+			cell = new Cell<>();
+			board.set(r, c, cell);
+		}
+		long newest = Math.max(opStamp, Math.max(rowStamp.get(r), colStamp.get(c)));
+		if (cell.stamp < newest) {
+			cell.value = op.combine(rh, ch);
+			cell.stamp = clock;
+		}
+		return cell.value;
+	}
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 */
+	public void setOp(OpType op) {
+		// O(1), every cached cell becomes stale
+		this.op = op;
+		opStamp = ++clock;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the row and row head
+	 * @param v
+	 *            the row label to insert in the row head
+	 * @throws IndexOutOfBoundsException
+	 *             if i is less than 0 or greater than the number of rows
+	 * @return returns true if row is able to be added
+	 */
+	public boolean addRow(int i, RowType v) {
+		// O(C+R) where R is the number of rows and C is the number of columns,
+		// no cell is calculated
+		if (i < 0 || i > rowHead.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		board.addRow(i, emptyCells(colHead.size()));
+		rowHead.add(i, v);
+		rowStamp.add(i, ++clock);
+		return true;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the column and the
+	 *            column head
+	 * @param v
+	 *            the column label to insert in the column head
+	 * @throws IndexOutOfBoundsException
+	 *             if i is less than 0 or greater than the number of columns
+	 * @return returns true if column is able to be added
+	 */
+	public boolean addCol(int i, ColType v) {
+		// O(C+R) where R is the number of rows and C is the number of columns,
+		// no cell is calculated
+		if (i < 0 || i > colHead.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		if (rowHead.size() != 0) {
+			board.addCol(i, emptyCells(rowHead.size()));
+		}
+		colHead.add(i, v);
+		colStamp.add(i, ++clock);
+		return true;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number
+	 *             of rows
+	 * @return returns old value of row head of removed row
+	 */
+	public RowType removeRow(int i) {
+		// O(R) where R is the number of rows
+		RowType oldValue = rowHead.remove(i);
+		rowStamp.remove(i);
+		board.removeRow(i);
+		return oldValue;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number
+	 *             of columns
+	 * @return returns old value of column head of removed column
+	 */
+	public ColType removeCol(int i) {
+		// O(CR) where R is the number of rows and C is the number of columns
+		ColType oldValue = colHead.remove(i);
+		colStamp.remove(i);
+		if (rowHead.size() != 0) {
+			board.removeCol(i);
+		}
+		return oldValue;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which row head to replace
+	 * @param v
+	 *            the row label to insert in the row head
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number
+	 *             of rows
+	 * @return returns old value of row head of replaced row
+	 */
+	public RowType setRow(int i, RowType v) {
+		// O(1), the cached cells of row i become stale
+		RowType oldValue = rowHead.set(i, v);
+		rowStamp.set(i, ++clock);
+		return oldValue;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates which column head to replace
+	 * @param v
+	 *            the column label to insert in the column head
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than or equal to number
+	 *             of columns
+	 * @return returns old value of column head of replaced column
+	 */
+	public ColType setCol(int i, ColType v) {
+		// O(1), the cached cells of column i become stale
+		ColType oldValue = colHead.set(i, v);
+		colStamp.set(i, ++clock);
+		return oldValue;
+	}
+
+	/**
+	 * @param n
+	 *            is how many cells the row or column has
+	 * @return returns a row or column of n cells that have not been read yet
+	 */
+	private DynamicArray<Cell<CellType>> emptyCells(int n) {
+		// O(n)
+		DynamicArray<Cell<CellType>> cells = new DynamicArray<>(Math.max(1, n));
+		for (int k = 0; k < n; k++) {
+			cells.add(null);
+		}
+		return cells;
+	}
+
+	/**
+	 * Construct a string representation of the table, calculating every stale
+	 * cell
+	 *
+	 * @return a string representation of the table
+	 */
+	@Override
+	public String toString() {
+		if (this.getSizeRow() == 0 && this.getSizeCol() == 0) {
+			return "Empty Table";
+		}
+		StringBuilder sb = new StringBuilder("============================\nTable\n");
+		sb.append("Operation: " + op.getClass() + "\n");
+		sb.append("Size: " + this.getSizeRow() + " rows, " + this.getSizeCol() + " cols\n");
+		for (int i = 0; i < this.getSizeRow(); i++) {
+			sb.append(rowHead.get(i));
+			for (int j = 0; j < this.getSizeCol(); j++) {
+				sb.append("|").append(this.getCell(i, j));
+			}
+			sb.append("\n");
+		}
+		sb.append("============================\n");
+		return sb.toString();
+	}
+
+	// --------------------------------------------------------
+	// example testing code... edit this as much as you want!
+	// --------------------------------------------------------
+
+	public static void main(String[] args) {
+		final int[] calls = { 0 };
+		IntegerComb counting = new IntegerComb() {
+			@Override
+			public Integer combine(Integer operand1, Integer operand2) {
+				calls[0]++;
+				return operand1 + operand2;
+			}
+		};
+		LazyTable<Integer, Integer, Integer, IntegerComb> itable = new LazyTable<>(counting);
+		for (int i = 0; i < 5; i++) {
+			itable.addRow(itable.getSizeRow(), i + 1);
+			itable.addCol(0, (i + 1) * 10);
+		}
+		if (calls[0] == 0 && itable.getSizeRow() == 5 && itable.getSizeCol() == 5 && itable.getCell(0, 0) == 51
+				&& itable.getCell(4, 0) == 55 && itable.getCell(3, 4) == 14 && calls[0] == 3) {
+			System.out.println("Yay 1");
+		}
+
+		itable.getCell(0, 0);
+		itable.setRow(0, 100);
+		if (calls[0] == 3 && itable.getCell(0, 0) == 150 && itable.getCell(3, 4) == 14 && calls[0] == 4) {
+			System.out.println("Yay 2");
+		}
+
+		itable.setOp(new IntegerTimer());
+		itable.removeCol(0);
+		itable.addCol(0, 7);
+		if (itable.getCell(0, 0) == 700 && itable.getCell(4, 0) == 35 && itable.getCell(3, 3) == 80
+				&& itable.getSizeCol() == 5) {
+			System.out.println("Yay 3");
+		}
+
+		LazyTable<String, String, String, StringAdder> stable = new LazyTable<>(new StringAdder());
+		stable.addCol(0, "apple");
+		stable.addRow(0, "red");
+		stable.addRow(1, "yellow");
+		stable.setCol(0, "kiwi");
+		if (stable.getCell(1, 0).equals("yellow kiwi") && stable.removeRow(0).equals("red")
+				&& stable.getCell(0, 0).equals("yellow kiwi")) {
+			System.out.println("Yay 4");
+		}
+	}
+
+}
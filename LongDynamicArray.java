@@ -0,0 +1,209 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates an array of long values that will grow or shrink depending on array contents, capacity,
+ * and input. It mirrors DynamicArray but keeps the values unboxed in a long[].
+ */
+public class LongDynamicArray {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity
+	private long[] storage; // underlying array
+	// size is how many elements are in the list
+	private int size = 0;
+
+	public LongDynamicArray() {
+		// constructor
+		// initial capacity of the array should be INITCAP
+		this.storage = new long[INITCAP];
+	}
+
+	/**
+	 * @param initCapacity
+	 *            gives the initial capacity for a LongDynamicArray instance
+	 */
+	public LongDynamicArray(int initCapacity) {
+		// constructor
+		// throw IllegalArgumentException if initCapacity < 1
+		if (initCapacity < 1) {
+			throw new IllegalArgumentException("Array cannot be smaller than 1!");
+		} else {
+			// set the initial capacity of the array as initCapacity
+			this.storage = new long[initCapacity];
+		}
+	}
+
+	/**
+	 * @return size which is the number of elements in the array
+	 */
+	public int size() {
+		// O(1)
+		return size;
+	}
+
+	/**
+	 * @return this.storage.length which is how many elements the array can hold
+	 */
+	public int capacity() {
+		// O(1)
+		return storage.length;
+	}
+
+	/**
+	 * @param index
+	 *            is the slot in the LongDynamicArray where the value will go
+	 * @param value
+	 *            is the value to replace value in the specified slot
+	 * @throws IndexOutOfBoundsException
+	 *             if index is smaller than 0 or greater than or equal to size
+	 * @return returns the old value that was replaced with value
+	 */
+	public long set(int index, long value) {
+		// O(1)
+		if (index < 0 || index >= size) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		long oldItem = storage[index];
+		storage[index] = value;
+		return oldItem;
+	}
+
+	/**
+	 * @param index
+	 *            is the slot of the LongDynamicArray with the value to be
+	 *            returned
+	 * @throws IndexOutOfBoundsException
+	 *             if index is smaller than 0 or greater than or equal to size
+	 * @return returns the value at index
+	 */
+	public long get(int index) {
+		// O(1)
+		if (index < 0 || index >= size) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return storage[index];
+	}
+
+	/**
+	 * @param value
+	 *            is the value that will go in the slot at the end of the array
+	 * @return returns true once the value is appended
+	 */
+	public boolean add(long value) {
+		// amortized O(1)
+		// double the capacity if no space is available
+		if (size == storage.length) {
+			this.resize(storage.length * 2);
+		}
+		storage[size++] = value;
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the slot in the LongDynamicArray where the value will go
+	 * @param value
+	 *            is the value to insert at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is smaller than 0 or greater than size
+	 */
+	public void add(int index, long value) {
+		// O(N) where N is the number of elements in the list
+		if (index < 0 || index > size) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// double the capacity if no space is available
+		if (size == storage.length) {
+			this.resize(storage.length * 2);
+		}
+		// shift the elements from index right in one block
+		System.arraycopy(storage, index, storage, index + 1, size - index);
+		storage[index] = value;
+		size++;
+	}
+
+	/**
+	 * @param index
+	 *            is the slot in the LongDynamicArray where the value will be
+	 *            removed from
+	 * @throws IndexOutOfBoundsException
+	 *             if index is smaller than 0 or greater than or equal to size
+	 * @return returns the value that was removed
+	 */
+	public long remove(int index) {
+		// O(1) amortized at the end of the list, O(N-index) otherwise
+		if (index < 0 || index >= size) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		long oldItem = storage[index];
+		System.arraycopy(storage, index + 1, storage, index, size - index - 1);
+		size--;
+		// halve capacity if the number of elements falls below 1/3 of the
+		// capacity, capacity should NOT go below INITCAP
+		if (size < (storage.length / 3.0) && (storage.length / 2) >= INITCAP) {
+			this.resize(storage.length / 2);
+		}
+		return oldItem;
+	}
+
+	/**
+	 * @return returns a copy of the elements as a long[] of length size
+	 */
+	public long[] toArray() {
+		// O(N)
+		long[] copy = new long[size];
+		System.arraycopy(storage, 0, copy, 0, size);
+		return copy;
+	}
+
+	/**
+	 * @param newCapacity
+	 *            is the capacity of the new underlying array
+	 */
+	private void resize(int newCapacity) {
+		// O(N)
+		long[] tempArr = new long[newCapacity];
+		System.arraycopy(storage, 0, tempArr, 0, size);
+		storage = tempArr;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			str.append(storage[i]).append(' ');
+		}
+		return str.toString();
+	}
+
+	public static void main(String args[]) {
+		LongDynamicArray lda = new LongDynamicArray();
+		if ((lda.size() == 0) && (lda.capacity() == 2)) {
+			System.out.println("Yay 1");
+		}
+
+		boolean ok = true;
+		for (int i = 0; i < 3; i++) {
+			ok = ok && lda.add(i * 5);
+		}
+		if (ok && lda.size() == 3 && lda.get(2) == 10 && lda.capacity() == 4) {
+			System.out.println("Yay 2");
+		}
+
+		lda.add(1, -10);
+		lda.add(4, 100);
+		if (lda.set(1, -20) == -10 && lda.get(2) == 5 && lda.size() == 5 && lda.capacity() == 8) {
+			System.out.println("Yay 3");
+		}
+
+		if (lda.remove(0) == 0 && lda.remove(0) == -20 && lda.remove(2) == 100 && lda.size() == 2
+				&& lda.capacity() == 4) {
+			System.out.println("Yay 4");
+		}
+	}
+
+}
@@ -0,0 +1,40 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class wraps a combiner so that every combine call goes through a CombineCache first.
+ */
+public class MemoCombiner<A, B, C> implements Combiner<A, B, C> {
+
+	private Combiner<A, B, C> op; // the combiner that calculates misses
+	private CombineCache cache; // where results are remembered, may be shared
+
+	/**
+	 * @param op
+	 *            is the combiner to calculate results with
+	 * @param cache
+	 *            is the cache to remember results in
+	 */
+	public MemoCombiner(Combiner<A, B, C> op, CombineCache cache) {
+		this.op = op;
+		this.cache = cache;
+	}
+
+	/**
+	 * @param operand1
+	 *            first operand
+	 * @param operand2
+	 *            second operand
+	 * @return returns the cached or newly calculated combination
+	 */
+	public C combine(A operand1, B operand2) {
+		return cache.combine(op, operand1, operand2);
+	}
+
+	/**
+	 * @return returns the cache this combiner uses
+	 */
+	public CombineCache getCache() {
+		return cache;
+	}
+}
@@ -0,0 +1,589 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid of int values kept in one row-major block of native memory outside the
+ * heap. The garbage collector never scans or moves the cells, so its pauses do not grow with the grid, and
+ * growing copies native memory to native memory without passing through the heap. The memory belongs to the
+ * grid until close() is called, after which every other method throws IllegalStateException; use it with
+ * try-with-resources. Memory given up by growing or shrinking is freed by the collector, never early. Cells cannot hold null, and the grid holds at most MAX_CELLS cells of capacity.
+ */
+public class OffHeapIntGrid implements IntCellGrid, AutoCloseable {
+
+	public static final int MAX_CELLS = Integer.MAX_VALUE / Integer.BYTES; // largest capacity one direct buffer holds
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of each axis
+	private static final Object UNSAFE; // sun.misc.Unsafe, null if it cannot be reached
+	private static final Method CLEANER; // Unsafe.invokeCleaner, frees a direct buffer right away
+
+	static {
+		Object unsafe = null;
+		Method cleaner = null;
+		try {
+			Class<?> type = Class.forName("sun.misc.Unsafe");
+			Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			cleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// without it a dropped buffer is freed when the collector finds it
+			unsafe = null;
+			cleaner = null;
+		}
+		UNSAFE = unsafe;
+		CLEANER = cleaner;
+	}
+
+	private ByteBuffer memory; // the native memory, null once closed
+	private IntBuffer cells; // int view of memory, cell (r, c) lives at r * colCap + c
+	private int rowCap; // how many rows fit before cells has to grow
+	private int colCap; // the row stride, how many columns fit before a relayout
+	private int numRow = 0;
+	private int numCol = 0;
+
+	public OffHeapIntGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this(INITCAP, INITCAP);
+	}
+
+	/**
+	 * @param rowCapacity
+	 *            is how many rows the grid can hold before growing
+	 * @param colCapacity
+	 *            is how many columns the grid can hold before growing
+	 */
+	public OffHeapIntGrid(int rowCapacity, int colCapacity) {
+		// constructor
+		// throw IllegalArgumentException if either capacity < 1 or the grid
+		// would not fit in one direct buffer
+		if (rowCapacity < 1 || colCapacity < 1) {
+			throw new IllegalArgumentException("Grid cannot be smaller than 1x1!");
+		}
+		if ((long) rowCapacity * colCapacity > MAX_CELLS) {
+			throw new IllegalArgumentException("Grid cannot be larger than " + MAX_CELLS + " cells!");
+		}
+		this.rowCap = rowCapacity;
+		this.colCap = colCapacity;
+		this.memory = allocate(rowCapacity * colCapacity);
+		this.cells = memory.asIntBuffer();
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	@Override
+	public int getInt(int indexRow, int indexCol) {
+		// O(1)
+		this.checkOpen();
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return cells.get(indexRow * colCap + indexCol);
+	}
+
+	@Override
+	public int setInt(int indexRow, int indexCol, int value) {
+		// O(1)
+		this.checkOpen();
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int slot = indexRow * colCap + indexCol;
+		int oldItem = cells.get(slot);
+		cells.put(slot, value);
+		return oldItem;
+	}
+
+	@Override
+	public Integer get(int indexRow, int indexCol) {
+		return this.getInt(indexRow, indexCol);
+	}
+
+	@Override
+	public Integer set(int indexRow, int indexCol, Integer value) {
+		return this.setInt(indexRow, indexCol, value);
+	}
+
+	@Override
+	public void setRow(int indexRow, int[] values) {
+		// O(C) where C is the number of columns
+		this.checkOpen();
+		if (indexRow < 0 || indexRow >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		cells.put(indexRow * colCap, values, 0, numCol);
+	}
+
+	@Override
+	public void setCol(int indexCol, int[] values) {
+		// O(R) where R is the number of rows
+		this.checkOpen();
+		if (indexCol < 0 || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells.put(r * colCap + indexCol, values[r]);
+		}
+	}
+
+	@Override
+	public boolean addRow(int index, int[] newRow) {
+		// amortized O(C + (R-index)C) where R is the number of rows and C is
+		// the number of columns of the grid
+		if (!this.openRows(index, 1, newRow.length)) {
+			return false;
+		}
+		cells.put(index * colCap, newRow, 0, numCol);
+		return true;
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<Integer> newRow) {
+		if (!this.openRows(index, 1, newRow.size())) {
+			return false;
+		}
+		int start = index * colCap;
+		for (int i = 0; i < numCol; i++) {
+			cells.put(start + i, newRow.get(i));
+		}
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, int[] newCol) {
+		// amortized O(R(C-index)) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (!this.openCols(index, 1, newCol.length)) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells.put(r * colCap + index, newCol[r]);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<Integer> newCol) {
+		if (!this.openCols(index, 1, newCol.size())) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			cells.put(r * colCap + index, newCol.get(r));
+		}
+		return true;
+	}
+
+	@Override
+	public DynamicArray<Integer> removeRow(int index) {
+		// O((R-index)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		this.checkOpen();
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int start = index * colCap;
+		DynamicArray<Integer> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int i = 0; i < numCol; i++) {
+			oldRow.add(cells.get(start + i));
+		}
+		this.removeRows(index, index + 1);
+		return oldRow;
+	}
+
+	@Override
+	public DynamicArray<Integer> removeCol(int index) {
+		// O(R(C-index)) where R is the number of rows and C is the number of
+		// columns of the grid
+		this.checkOpen();
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<Integer> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			oldCol.add(cells.get(r * colCap + index));
+		}
+		this.removeCols(index, index + 1);
+		return oldCol;
+	}
+
+	/**
+	 * @param index
+	 *            is the row index where the first new row will be added
+	 * @param newRows
+	 *            are the new rows in order, one value per column each
+	 * @return returns true if the rows were added, false if the index or the
+	 *         length of any row does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<Integer>> newRows) {
+		// amortized O(KC + (R-index)C) where K is the number of new rows, R
+		// is the number of rows and C is the number of columns of the grid
+		this.checkOpen();
+		int count = newRows.size();
+		int length = numRow == 0 && count != 0 ? newRows.get(0).size() : numCol;
+		for (int k = 0; k < count; k++) {
+			if (newRows.get(k).size() != length) {
+				// cannot add if the length of a row does not match the others
+				return false;
+			}
+		}
+		if (count == 0) {
+			return index >= 0 && index <= numRow;
+		}
+		if (!this.openRows(index, count, length)) {
+			return false;
+		}
+		for (int k = 0; k < count; k++) {
+			DynamicArray<Integer> newRow = newRows.get(k);
+			int rowStart = (index + k) * colCap;
+			for (int i = 0; i < numCol; i++) {
+				cells.put(rowStart + i, newRow.get(i));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the first new column will be added
+	 * @param newCols
+	 *            are the new columns in order, one value per row each
+	 * @return returns true if the columns were added, false if the index or
+	 *         the length of any column does not fit, and then nothing is added
+	 */
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<Integer>> newCols) {
+		// amortized O(R(C-index+K)) where K is the number of new columns, R is
+		// the number of rows and C is the number of columns of the grid
+		this.checkOpen();
+		int count = newCols.size();
+		for (int k = 0; k < count; k++) {
+			if (newCols.get(k).size() != numRow) {
+				return false;
+			}
+		}
+		if (!this.openCols(index, count, numRow)) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap + index;
+			for (int k = 0; k < count; k++) {
+				cells.put(start + k, newCols.get(k).get(r));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first row to remove
+	 * @param to
+	 *            is the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             rows, or from is greater than to
+	 */
+	@Override
+	public void removeRows(int from, int to) {
+		// O((R-from)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		this.checkOpen();
+		if (from < 0 || to > numRow || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// shift the rows below the range up in a single block
+		cells.put(from * colCap, cells, to * colCap, (numRow - to) * colCap);
+		numRow -= to - from;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity as often as removeRow would, but relayout once
+		int newRowCap = rowCap;
+		while (numRow < newRowCap / 3.0 && newRowCap / 2 >= INITCAP) {
+			newRowCap /= 2;
+		}
+		if (newRowCap != rowCap) {
+			this.relayout(newRowCap, colCap);
+		}
+	}
+
+	/**
+	 * @param from
+	 *            is the index of the first column to remove
+	 * @param to
+	 *            is the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than the number of
+	 *             columns, or from is greater than to
+	 */
+	@Override
+	public void removeCols(int from, int to) {
+		// O(R(C-from)) where R is the number of rows and C is the number of
+		// columns of the grid
+		this.checkOpen();
+		if (from < 0 || to > numCol || from > to) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			cells.put(start + from, cells, start + to, numCol - to);
+		}
+		numCol -= to - from;
+	}
+
+	/**
+	 * Free the native memory now instead of whenever the collector finds it.
+	 * Closing twice does nothing. No other thread may be reading the grid,
+	 * not even optimistically, so close it only once every table reading it
+	 * is done.
+	 */
+	@Override
+	public void close() {
+		// O(1)
+		if (memory != null) {
+			free(memory);
+			memory = null;
+			cells = null;
+			numRow = 0;
+			numCol = 0;
+		}
+	}
+
+	/**
+	 * @return returns true if close() has been called
+	 */
+	public boolean isClosed() {
+		// O(1)
+		return memory == null;
+	}
+
+	/**
+	 * @throws IllegalStateException
+	 *             if the grid has been closed
+	 */
+	private void checkOpen() {
+		if (memory == null) {
+			throw new IllegalStateException("Grid is closed!");
+		}
+	}
+
+	/**
+	 * Make room for count new rows at index, checking their length first.
+	 *
+	 * @param index
+	 *            is where the new rows go
+	 * @param count
+	 *            is how many rows to make room for
+	 * @param length
+	 *            is the length of each new row
+	 * @return returns false if the rows cannot be added
+	 */
+	private boolean openRows(int index, int count, int length) {
+		this.checkOpen();
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			if (length > colCap) {
+				this.relayout(rowCap, length);
+			}
+			numCol = length;
+		} else if (length != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		// double the row capacity as often as needed, but relayout once
+		if (numRow + count > rowCap) {
+			long newRowCap = rowCap;
+			while (newRowCap < numRow + count) {
+				newRowCap *= 2;
+			}
+			// stop doubling at the largest buffer rather than fail early
+			this.relayout((int) Math.max(numRow + count, Math.min(newRowCap, MAX_CELLS / colCap)), colCap);
+		}
+		// shift the rows below index down in a single block
+		int start = index * colCap;
+		cells.put(start + count * colCap, cells, start, (numRow - index) * colCap);
+		numRow += count;
+		return true;
+	}
+
+	/**
+	 * Make room for count new columns at index, checking their length first.
+	 *
+	 * @param index
+	 *            is where the new columns go
+	 * @param count
+	 *            is how many columns to make room for
+	 * @param length
+	 *            is the length of each new column
+	 * @return returns false if the columns cannot be added
+	 */
+	private boolean openCols(int index, int count, int length) {
+		this.checkOpen();
+		if (index < 0 || index > numCol || numRow == 0 || length != numRow) {
+			return false;
+		}
+		// double the column capacity (the row stride) as often as needed, but
+		// relayout once
+		if (numCol + count > colCap) {
+			long newColCap = colCap;
+			while (newColCap < numCol + count) {
+				newColCap *= 2;
+			}
+			this.relayout(rowCap, (int) Math.max(numCol + count, Math.min(newColCap, MAX_CELLS / rowCap)));
+		}
+		for (int r = 0; r < numRow; r++) {
+			int start = r * colCap;
+			cells.put(start + index + count, cells, start + index, numCol - index);
+		}
+		numCol += count;
+		return true;
+	}
+
+	/**
+	 * @param newRowCap
+	 *            is the new row capacity, at least the number of rows
+	 * @param newColCap
+	 *            is the new column capacity (row stride), at least the number
+	 *            of columns
+	 * @throws IllegalStateException
+	 *             if the new capacity does not fit in one direct buffer
+	 */
+	private void relayout(int newRowCap, int newColCap) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		if ((long) newRowCap * newColCap > MAX_CELLS) {
+			throw new IllegalStateException("Grid cannot be larger than " + MAX_CELLS + " cells!");
+		}
+		ByteBuffer tempMemory = allocate(newRowCap * newColCap);
+		IntBuffer tempCells = tempMemory.asIntBuffer();
+		if (newColCap == colCap) {
+			// same stride, the used rows are already one contiguous block
+			tempCells.put(0, cells, 0, numRow * colCap);
+		} else {
+			for (int r = 0; r < numRow; r++) {
+				tempCells.put(r * newColCap, cells, r * colCap, numCol);
+			}
+		}
+		// the old block is left to the collector rather than freed here: an
+		// optimistic reader such as ConcurrentTable.getCell may still hold
+		// the old cells, and must find the memory behind them alive
+		memory = tempMemory;
+		cells = tempCells;
+		rowCap = newRowCap;
+		colCap = newColCap;
+	}
+
+	/**
+	 * @param size
+	 *            is the number of ints the buffer must hold
+	 * @return returns zeroed native memory for size ints in the native byte
+	 *         order
+	 */
+	private static ByteBuffer allocate(int size) {
+		return ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * @param buffer
+	 *            is the direct buffer to free, it must not be used afterwards
+	 */
+	private static void free(ByteBuffer buffer) {
+		if (CLEANER != null) {
+			try {
+				CLEANER.invoke(UNSAFE, buffer);
+			} catch (ReflectiveOperationException e) {
+				// leave it to the collector
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		this.checkOpen();
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(cells.get(r * colCap + c)).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		try (OffHeapIntGrid ogrid = new OffHeapIntGrid()) {
+			boolean ok = true;
+			for (int i = 0; i < 3; i++) {
+				ok = ok && ogrid.addRow(ogrid.getNumRow(), new int[] { (i + 1) * 10 });
+			}
+			if (ok && ogrid.getNumRow() == 3 && ogrid.getNumCol() == 1 && ogrid.get(2, 0) == 30) {
+				System.out.println("Yay 1");
+			}
+
+			if (!ogrid.addCol(1, new int[] { -10, -20 }) && ogrid.addCol(1, new int[] { -10, -20, -30 })
+					&& ogrid.addRow(0, new int[] { 5, 10 }) && ogrid.getNumCol() == 2 && ogrid.getInt(3, 1) == -30
+					&& ogrid.get(0, 0) == 5) {
+				System.out.println("Yay 2");
+			}
+
+			DynamicArray<Integer> ocol = ogrid.removeCol(1);
+			DynamicArray<Integer> orow = ogrid.removeRow(0);
+			if (ogrid.getNumRow() == 3 && ogrid.getNumCol() == 1 && ocol.get(0) == 10 && orow.get(0) == 5
+					&& ogrid.get(0, 0) == 10 && ogrid.get(2, 0) == 30) {
+				System.out.println("Yay 3");
+			}
+		}
+
+		try (OffHeapIntGrid ogrid = new OffHeapIntGrid()) {
+			Table<Integer, Integer, Integer, IntegerComb> otable = new Table<>(new IntegerAdder(), ogrid);
+			for (int i = 0; i < 5; i++) {
+				otable.addRow(otable.getSizeRow(), i + 1);
+				otable.addCol(0, (i + 1) * 10);
+			}
+			otable.setOp(new IntegerTimer());
+			if (otable.getCell(0, 0) == 50 && otable.getCell(4, 4) == 50 && ogrid.getNumCol() == 5) {
+				System.out.println("Yay 4");
+			}
+		}
+
+		OffHeapIntGrid closed = new OffHeapIntGrid();
+		closed.close();
+		closed.close();
+		try {
+			closed.addRow(0, new int[] { 1 });
+		} catch (IllegalStateException e) {
+			if (closed.isClosed()) {
+				System.out.println("Yay 5");
+			}
+		}
+	}
+}
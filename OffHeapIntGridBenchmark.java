@@ -0,0 +1,83 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times a full garbage collection while an IntegerAdder table of growing size is alive, built
+ * over a boxed FlatGrid, an on-heap IntGrid and an OffHeapIntGrid, and reports how much heap each table
+ * holds. Run it with a heap large enough for the boxed table, for example -Xmx4g.
+ */
+public class OffHeapIntGridBenchmark {
+
+	private static final int COLS = 1000;
+	private static final int[] ROWS = { 1000, 10000, 30000 };
+
+	/**
+	 * @return returns the number of bytes currently used on the heap
+	 */
+	private static long usedMemory() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	/**
+	 * @param board
+	 *            is the empty grid to build the table over
+	 * @param rows
+	 *            is the number of rows of the table
+	 * @return returns a rows x COLS IntegerAdder table, every cell a different
+	 *         value
+	 */
+	private static Table<Integer, Integer, Integer, IntegerComb> build(Grid<Integer> board, int rows) {
+		Table<Integer, Integer, Integer, IntegerComb> table = new Table<>(new IntegerAdder(), board);
+		DynamicArray<Integer> colHeads = new DynamicArray<>(COLS);
+		for (int i = 0; i < COLS; i++) {
+			colHeads.add(i);
+		}
+		DynamicArray<Integer> rowHeads = new DynamicArray<>(rows);
+		for (int i = 0; i < rows; i++) {
+			rowHeads.add(i * COLS);
+		}
+		table.addCols(0, colHeads);
+		table.addRows(0, rowHeads);
+		return table;
+	}
+
+	/**
+	 * @param name
+	 *            is the label to print
+	 * @param board
+	 *            is the empty grid to build the table over
+	 * @param rows
+	 *            is the number of rows of the table
+	 */
+	private static void measure(String name, Grid<Integer> board, int rows) {
+		long before = usedMemory();
+		Table<Integer, Integer, Integer, IntegerComb> table = build(board, rows);
+		long bytes = usedMemory() - before;
+		long best = Long.MAX_VALUE;
+		for (int rep = 0; rep < 3; rep++) {
+			long start = System.nanoTime();
+			System.gc();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		// keep the table alive through the collections
+		if (table.getCell(rows - 1, COLS - 1) != rows * COLS - 1) {
+			throw new IllegalStateException("Wrong cell!");
+		}
+		System.out.println(String.format("%-14s %10.1f MB heap %10.1f ms full GC", name, bytes / 1e6, best / 1e6));
+	}
+
+	public static void main(String[] args) {
+		for (int rows : ROWS) {
+			System.out.println(rows + " x " + COLS + " cells");
+			measure("FlatGrid", new FlatGrid<Integer>(), rows);
+			measure("IntGrid", new IntGrid(), rows);
+			try (OffHeapIntGrid board = new OffHeapIntGrid()) {
+				measure("OffHeapIntGrid", board, rows);
+			}
+		}
+	}
+}
@@ -0,0 +1,387 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is an immutable dynamic array. Every change returns a new array and leaves the old one as it
+ * was, and the two share everything but the O(log n) nodes on the path to the change, so keeping many
+ * versions costs memory in proportion to the changes. The elements sit in leaves of up to 32 values under
+ * internal nodes of up to 32 children that record how many elements each child holds, so get, set, add,
+ * insert and remove all walk one root-to-leaf path of O(log32 n) nodes. Nodes split when they overflow and
+ * merge with a neighbour when they run low, so every leaf stays at the same depth.
+ */
+public class PersistentArray<T> {
+
+	private static final int WIDTH = 32; // most values in a leaf or children in an internal node
+	private static final int MIN = WIDTH / 4; // a node below this merges with a neighbour if they fit in one
+
+	/**
+	 * One node of the tree. A leaf holds elements and has no sizes, an
+	 * internal node holds children and sizes[k] is how many elements
+	 * children 0..k hold together. Nodes are never changed once built.
+	 */
+	private static final class Node {
+		final Object[] items;
+		final int[] sizes;
+
+		Node(Object[] items, int[] sizes) {
+			this.items = items;
+			this.sizes = sizes;
+		}
+
+		boolean isLeaf() {
+			return sizes == null;
+		}
+
+		int count() {
+			return isLeaf() ? items.length : sizes[sizes.length - 1];
+		}
+
+		/**
+		 * @param children
+		 *            are nodes of the same height
+		 * @return returns an internal node over children
+		 */
+		static Node branch(Object[] children) {
+			int[] sizes = new int[children.length];
+			int total = 0;
+			for (int k = 0; k < children.length; k++) {
+				total += ((Node) children[k]).count();
+				sizes[k] = total;
+			}
+			return new Node(children, sizes);
+		}
+
+		/**
+		 * @param index
+		 *            is an element index inside this internal node
+		 * @return returns the child that holds index
+		 */
+		int childOf(int index) {
+			// the first k with sizes[k] > index, by binary search
+			int lo = 0;
+			int hi = sizes.length - 1;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (sizes[mid] > index) {
+					hi = mid;
+				} else {
+					lo = mid + 1;
+				}
+			}
+			return lo;
+		}
+
+		int before(int child) {
+			return child == 0 ? 0 : sizes[child - 1];
+		}
+	}
+
+	private static final Node EMPTY_LEAF = new Node(new Object[0], null);
+	private static final PersistentArray<?> EMPTY = new PersistentArray<>(EMPTY_LEAF);
+
+	private final Node root;
+
+	private PersistentArray(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * @return returns the array with no elements
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentArray<T> empty() {
+		// O(1)
+		return (PersistentArray<T>) EMPTY;
+	}
+
+	/**
+	 * @param values
+	 *            are the elements, in order
+	 * @return returns a persistent array holding a copy of values
+	 */
+	public static <T> PersistentArray<T> of(DynamicArray<T> values) {
+		// O(N) where N is the number of values, built bottom up with full
+		// nodes
+		int n = values.size();
+		if (n == 0) {
+			return empty();
+		}
+		Object[] level = new Object[(n + WIDTH - 1) / WIDTH];
+		for (int k = 0; k < level.length; k++) {
+			Object[] items = new Object[Math.min(WIDTH, n - k * WIDTH)];
+			for (int i = 0; i < items.length; i++) {
+				items[i] = values.get(k * WIDTH + i);
+			}
+			level[k] = new Node(items, null);
+		}
+		while (level.length > 1) {
+			Object[] up = new Object[(level.length + WIDTH - 1) / WIDTH];
+			for (int k = 0; k < up.length; k++) {
+				Object[] children = new Object[Math.min(WIDTH, level.length - k * WIDTH)];
+				System.arraycopy(level, k * WIDTH, children, 0, children.length);
+				up[k] = Node.branch(children);
+			}
+			level = up;
+		}
+		return new PersistentArray<>((Node) level[0]);
+	}
+
+	/**
+	 * @return returns the number of elements
+	 */
+	public int size() {
+		// O(1)
+		return root.count();
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to return
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns the element at index
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		// O(log N) where N is the number of elements
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Node node = root;
+		while (!node.isLeaf()) {
+			int k = node.childOf(index);
+			index -= node.before(k);
+			node = (Node) node.items[k];
+		}
+		return (T) node.items[index];
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to replace
+	 * @param value
+	 *            is the new element
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns a new array with value at index
+	 */
+	public PersistentArray<T> set(int index, T value) {
+		// O(log N) where N is the number of elements
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return new PersistentArray<>(set(root, index, value));
+	}
+
+	private static Node set(Node node, int index, Object value) {
+		Object[] items = node.items.clone();
+		if (node.isLeaf()) {
+			items[index] = value;
+			return new Node(items, null);
+		}
+		// replacing an element keeps every count, so sizes can be shared
+		int k = node.childOf(index);
+		items[k] = set((Node) items[k], index - node.before(k), value);
+		return new Node(items, node.sizes);
+	}
+
+	/**
+	 * @param value
+	 *            is the element to append
+	 * @return returns a new array with value added at the end
+	 */
+	public PersistentArray<T> add(T value) {
+		// O(log N) where N is the number of elements
+		return this.add(this.size(), value);
+	}
+
+	/**
+	 * @param index
+	 *            is where value goes, the elements from index on move up one
+	 * @param value
+	 *            is the element to insert
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than size()
+	 * @return returns a new array with value inserted at index
+	 */
+	public PersistentArray<T> add(int index, T value) {
+		// O(log N) where N is the number of elements
+		if (index < 0 || index > this.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Node[] parts = insert(root, index, value);
+		if (parts.length == 1) {
+			return new PersistentArray<>(parts[0]);
+		}
+		// the root split, the tree grows one level
+		return new PersistentArray<>(Node.branch(parts));
+	}
+
+	/**
+	 * @return returns the new node, or two halves if it overflowed
+	 */
+	private static Node[] insert(Node node, int index, Object value) {
+		Object[] items;
+		if (node.isLeaf()) {
+			items = new Object[node.items.length + 1];
+			System.arraycopy(node.items, 0, items, 0, index);
+			items[index] = value;
+			System.arraycopy(node.items, index, items, index + 1, node.items.length - index);
+		} else {
+			// an index at the very end goes into the last child
+			int k = index == node.count() ? node.items.length - 1 : node.childOf(index);
+			Node[] parts = insert((Node) node.items[k], index - node.before(k), value);
+			items = new Object[node.items.length + parts.length - 1];
+			System.arraycopy(node.items, 0, items, 0, k);
+			System.arraycopy(parts, 0, items, k, parts.length);
+			System.arraycopy(node.items, k + 1, items, k + parts.length, node.items.length - k - 1);
+		}
+		if (items.length <= WIDTH) {
+			return new Node[] { make(items, node.isLeaf()) };
+		}
+		int half = items.length / 2;
+		Object[] left = new Object[half];
+		Object[] right = new Object[items.length - half];
+		System.arraycopy(items, 0, left, 0, half);
+		System.arraycopy(items, half, right, 0, right.length);
+		return new Node[] { make(left, node.isLeaf()), make(right, node.isLeaf()) };
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the element to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least size()
+	 * @return returns a new array without the element at index
+	 */
+	public PersistentArray<T> remove(int index) {
+		// O(log N) where N is the number of elements
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Node node = remove(root, index);
+		// a root with one child is just that child
+		while (!node.isLeaf() && node.items.length == 1) {
+			node = (Node) node.items[0];
+		}
+		if (node.items.length == 0) {
+			return empty();
+		}
+		return new PersistentArray<>(node);
+	}
+
+	/**
+	 * @return returns the new node, which may be empty or below MIN
+	 */
+	private static Node remove(Node node, int index) {
+		if (node.isLeaf()) {
+			Object[] items = new Object[node.items.length - 1];
+			System.arraycopy(node.items, 0, items, 0, index);
+			System.arraycopy(node.items, index + 1, items, index, items.length - index);
+			return new Node(items, null);
+		}
+		int k = node.childOf(index);
+		Node child = remove((Node) node.items[k], index - node.before(k));
+		Object[] items;
+		if (child.items.length == 0) {
+			// drop the empty child
+			items = new Object[node.items.length - 1];
+			System.arraycopy(node.items, 0, items, 0, k);
+			System.arraycopy(node.items, k + 1, items, k, items.length - k);
+		} else if (child.items.length < MIN && node.items.length > 1) {
+			// merge the small child into a neighbour if both fit in one node
+			int other = k + 1 < node.items.length ? k + 1 : k - 1;
+			Node sibling = (Node) node.items[other];
+			if (child.items.length + sibling.items.length <= WIDTH) {
+				int first = Math.min(k, other);
+				Node a = first == k ? child : sibling;
+				Node b = first == k ? sibling : child;
+				Object[] joined = new Object[a.items.length + b.items.length];
+				System.arraycopy(a.items, 0, joined, 0, a.items.length);
+				System.arraycopy(b.items, 0, joined, a.items.length, b.items.length);
+				items = new Object[node.items.length - 1];
+				System.arraycopy(node.items, 0, items, 0, first);
+				items[first] = make(joined, child.isLeaf());
+				System.arraycopy(node.items, first + 2, items, first + 1, items.length - first - 1);
+			} else {
+				items = node.items.clone();
+				items[k] = child;
+			}
+		} else {
+			items = node.items.clone();
+			items[k] = child;
+		}
+		return items.length == 0 ? EMPTY_LEAF : Node.branch(items);
+	}
+
+	private static Node make(Object[] items, boolean leaf) {
+		return leaf ? new Node(items, null) : Node.branch(items);
+	}
+
+	/**
+	 * @return returns a DynamicArray holding the elements in order
+	 */
+	public DynamicArray<T> toDynamicArray() {
+		// O(N) where N is the number of elements
+		DynamicArray<T> copy = new DynamicArray<>(Math.max(1, this.size()));
+		this.appendTo(root, copy);
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void appendTo(Node node, DynamicArray<T> dest) {
+		for (Object item : node.items) {
+			if (node.isLeaf()) {
+				dest.add((T) item);
+			} else {
+				this.appendTo((Node) item, dest);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.toDynamicArray().toString();
+	}
+
+	public static void main(String[] args) {
+		PersistentArray<Integer> v0 = PersistentArray.empty();
+		PersistentArray<Integer> v1 = v0;
+		for (int i = 0; i < 5000; i++) {
+			v1 = v1.add(i);
+		}
+		PersistentArray<Integer> v2 = v1.set(1234, -1);
+		if (v0.size() == 0 && v1.size() == 5000 && v1.get(1234) == 1234 && v2.get(1234) == -1
+				&& v2.get(4999) == 4999) {
+			System.out.println("Yay 1");
+		}
+
+		// insert at the front and remove from the middle, against a
+		// DynamicArray doing the same
+		DynamicArray<Integer> ref = v1.toDynamicArray();
+		PersistentArray<Integer> v3 = v1;
+		for (int i = 0; i < 3000; i++) {
+			v3 = v3.add(i % 7 == 0 ? 0 : v3.size() / 3, -i);
+			ref.add(i % 7 == 0 ? 0 : ref.size() / 3, -i);
+		}
+		for (int i = 0; i < 7900; i++) {
+			v3 = v3.remove(v3.size() / 2);
+			ref.remove(ref.size() / 2);
+		}
+		boolean ok = v3.size() == ref.size() && v1.size() == 5000 && v1.get(0) == 0;
+		for (int i = 0; i < ref.size(); i++) {
+			ok = ok && v3.get(i).equals(ref.get(i));
+		}
+		if (ok) {
+			System.out.println("Yay 2");
+		}
+
+		PersistentArray<Integer> built = PersistentArray.of(v1.toDynamicArray());
+		while (built.size() > 0) {
+			built = built.remove(0);
+		}
+		if (built.size() == 0 && built.add(7).get(0) == 7 && PersistentArray.of(ref).get(50).equals(ref.get(50))) {
+			System.out.println("Yay 3");
+		}
+	}
+}
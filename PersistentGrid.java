@@ -0,0 +1,235 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is an immutable grid built from PersistentArrays: one for the rows, and one per row for its
+ * cells. Every change returns a new grid that shares all unchanged rows and nodes with the old one, so a
+ * history of versions costs memory in proportion to what changed between them. Setting a cell copies
+ * O(log R + log C) nodes.
+ */
+public class PersistentGrid<T> {
+
+	private final PersistentArray<PersistentArray<T>> rows;
+	private final int numCol;
+
+	private PersistentGrid(PersistentArray<PersistentArray<T>> rows, int numCol) {
+		this.rows = rows;
+		this.numCol = numCol;
+	}
+
+	/**
+	 * @return returns the grid with no rows and no columns
+	 */
+	public static <T> PersistentGrid<T> empty() {
+		// O(1)
+		return new PersistentGrid<>(PersistentArray.<PersistentArray<T>> empty(), 0);
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to copy
+	 * @return returns a persistent grid with the same cells as grid
+	 */
+	public static <T> PersistentGrid<T> of(Grid<T> grid) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		DynamicArray<PersistentArray<T>> rows = new DynamicArray<>(Math.max(1, grid.getNumRow()));
+		for (int r = 0; r < grid.getNumRow(); r++) {
+			DynamicArray<T> row = new DynamicArray<>(Math.max(1, grid.getNumCol()));
+			for (int c = 0; c < grid.getNumCol(); c++) {
+				row.add(grid.get(r, c));
+			}
+			rows.add(PersistentArray.of(row));
+		}
+		return new PersistentGrid<>(PersistentArray.of(rows), grid.getNumCol());
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return rows.size();
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the cell to be returned
+	 * @param indexCol
+	 *            is the column index of the cell to be returned
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns the value at the row and column indices
+	 */
+	public T get(int indexRow, int indexCol) {
+		// O(log R + log C)
+		return rows.get(indexRow).get(indexCol);
+	}
+
+	/**
+	 * @param indexRow
+	 *            is the row index of the cell to replace
+	 * @param indexCol
+	 *            is the column index of the cell to replace
+	 * @param value
+	 *            is the new value of the cell
+	 * @throws IndexOutOfBoundsException
+	 *             if row or column index is out of range
+	 * @return returns a new grid with value in the cell
+	 */
+	public PersistentGrid<T> set(int indexRow, int indexCol, T value) {
+		// O(log R + log C)
+		PersistentArray<T> row = rows.get(indexRow);
+		return new PersistentGrid<>(rows.set(indexRow, row.set(indexCol, value)), numCol);
+	}
+
+	/**
+	 * @param index
+	 *            is the row index where the new row will be added
+	 * @param newRow
+	 *            is the new row, one value per column, or any length if the
+	 *            grid has no rows
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than the number of rows
+	 * @throws IllegalArgumentException
+	 *             if the length of newRow does not match the number of columns
+	 * @return returns a new grid with the row added
+	 */
+	public PersistentGrid<T> addRow(int index, DynamicArray<T> newRow) {
+		// O(C + log R)
+		if (rows.size() != 0 && newRow.size() != numCol) {
+			throw new IllegalArgumentException("Row length does not match!");
+		}
+		return new PersistentGrid<>(rows.add(index, PersistentArray.of(newRow)), newRow.size());
+	}
+
+	/**
+	 * @param index
+	 *            is the column index where the new column will be added
+	 * @param newCol
+	 *            is the new column, one value per row
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than the number of
+	 *             columns
+	 * @throws IllegalArgumentException
+	 *             if the grid has no rows or the length of newCol does not
+	 *             match the number of rows
+	 * @return returns a new grid with the column added
+	 */
+	public PersistentGrid<T> addCol(int index, DynamicArray<T> newCol) {
+		// O(R log C + R log R)
+		if (rows.size() == 0 || newCol.size() != rows.size()) {
+			throw new IllegalArgumentException("Column length does not match!");
+		}
+		if (index < 0 || index > numCol) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		PersistentArray<PersistentArray<T>> next = rows;
+		for (int r = 0; r < rows.size(); r++) {
+			next = next.set(r, rows.get(r).add(index, newCol.get(r)));
+		}
+		return new PersistentGrid<>(next, numCol + 1);
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @return returns a new grid without the row
+	 */
+	public PersistentGrid<T> removeRow(int index) {
+		// O(log R)
+		PersistentArray<PersistentArray<T>> next = rows.remove(index);
+		// removing the last row also removes the columns
+		return new PersistentGrid<>(next, next.size() == 0 ? 0 : numCol);
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @return returns a new grid without the column
+	 */
+	public PersistentGrid<T> removeCol(int index) {
+		// O(R log C + R log R)
+		if (index < 0 || index >= numCol) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		PersistentArray<PersistentArray<T>> next = rows;
+		for (int r = 0; r < rows.size(); r++) {
+			next = next.set(r, rows.get(r).remove(index));
+		}
+		return new PersistentGrid<>(next, numCol - 1);
+	}
+
+	/**
+	 * @param index
+	 *            is the index of the row to return
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @return returns row index, shared with this grid
+	 */
+	public PersistentArray<T> getRow(int index) {
+		// O(log R)
+		return rows.get(index);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < this.getNumRow(); r++) {
+			PersistentArray<T> row = rows.get(r);
+			for (int c = 0; c < numCol; c++) {
+				grid.append(row.get(c)).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		PersistentGrid<Integer> g0 = PersistentGrid.empty();
+		PersistentGrid<Integer> g1 = g0;
+		for (int r = 0; r < 40; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>();
+			for (int c = 0; c < 50; c++) {
+				row.add(r * 100 + c);
+			}
+			g1 = g1.addRow(r, row);
+		}
+		PersistentGrid<Integer> g2 = g1.set(7, 9, -1);
+		if (g0.getNumRow() == 0 && g1.getNumRow() == 40 && g1.getNumCol() == 50 && g1.get(7, 9) == 709
+				&& g2.get(7, 9) == -1 && g2.getRow(8) == g1.getRow(8)) {
+			System.out.println("Yay 1");
+		}
+
+		DynamicArray<Integer> col = new DynamicArray<>();
+		for (int r = 0; r < 40; r++) {
+			col.add(-r);
+		}
+		PersistentGrid<Integer> g3 = g2.addCol(0, col).removeRow(0).removeCol(10);
+		if (g3.getNumRow() == 39 && g3.getNumCol() == 50 && g3.get(0, 0) == -1 && g3.get(6, 9) == 708
+				&& g2.getNumCol() == 50 && g2.get(0, 0) == 0) {
+			System.out.println("Yay 2");
+		}
+
+		boolean thrown = false;
+		try {
+			g3.addRow(0, col);
+		} catch (IllegalArgumentException e) {
+			thrown = true;
+		}
+		if (thrown && PersistentGrid.of(new FlatGrid<Integer>()).getNumRow() == 0) {
+			System.out.println("Yay 3");
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class keeps a history of versions of a 1000 x 1000 grid, one cell changed per version, and compares
+ * the heap it takes as PersistentGrid versions against one deep-copied FlatGrid per version.
+ */
+public class PersistentGridBenchmark {
+
+	private static final int SIZE = 1000; // rows and columns
+	private static final int VERSIONS = 1000;
+
+	/**
+	 * @return returns the bytes of heap in use after a collection
+	 */
+	private static long usedHeap() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	public static void main(String[] args) {
+		FlatGrid<Integer> base = new FlatGrid<>(SIZE, SIZE);
+		for (int r = 0; r < SIZE; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>(SIZE);
+			for (int c = 0; c < SIZE; c++) {
+				// small values so every cell shares a cached Integer
+				row.add(c & 127);
+			}
+			base.addRow(r, row);
+		}
+
+		long before = usedHeap();
+		DynamicArray<PersistentGrid<Integer>> history = new DynamicArray<>(VERSIONS);
+		history.add(PersistentGrid.of(base));
+		long first = usedHeap() - before;
+		long start = System.nanoTime();
+		for (int v = 1; v < VERSIONS; v++) {
+			history.add(history.get(v - 1).set((v * 7919) % SIZE, (v * 104729) % SIZE, v & 127));
+		}
+		long elapsed = System.nanoTime() - start;
+		long total = usedHeap() - before;
+		System.out.println(String.format("persistent: first version %6.1f MB, %d versions %6.1f MB, %5.2f us per version",
+				first / 1e6, VERSIONS, total / 1e6, elapsed / 1e3 / (VERSIONS - 1)));
+
+		// a few deep copies, the rest of the history would cost the same each
+		int copies = 10;
+		DynamicArray<FlatGrid<Integer>> copied = new DynamicArray<>(copies);
+		before = usedHeap();
+		start = System.nanoTime();
+		for (int v = 0; v < copies; v++) {
+			FlatGrid<Integer> copy = new FlatGrid<>(SIZE, SIZE);
+			for (int r = 0; r < SIZE; r++) {
+				DynamicArray<Integer> row = new DynamicArray<>(SIZE);
+				for (int c = 0; c < SIZE; c++) {
+					row.add(base.get(r, c));
+				}
+				copy.addRow(r, row);
+			}
+			copied.add(copy);
+		}
+		elapsed = (System.nanoTime() - start) / copies;
+		double one = (usedHeap() - before) / (double) copies;
+		System.out.println(String.format("deep copy:  one version     %6.1f MB, %d versions %6.1f MB, %5.2f us per version",
+				one / 1e6, VERSIONS, one * VERSIONS / 1e6, elapsed / 1e3));
+		if (history.get(VERSIONS - 1).getNumRow() != copied.get(copies - 1).getNumRow()) {
+			System.out.println("size mismatch");
+		}
+	}
+}
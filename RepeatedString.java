@@ -0,0 +1,168 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class is a CharSequence of a string repeated a number of times that is never built. It only keeps
+ * the string and the count, so it takes the same memory however many times the string repeats, and the
+ * characters are only copied out by toString or subSequence.
+ */
+public class RepeatedString implements CharSequence {
+
+	private final String unit; // the string that repeats
+	private final int times; // how many times it repeats
+	private int hash; // cached hashCode, 0 until first computed
+
+	/**
+	 * @param unit
+	 *            is the string to repeat
+	 * @param times
+	 *            is how many times to repeat it, 0 or less gives the empty
+	 *            sequence
+	 * @throws IllegalArgumentException
+	 *             if the repeated length would not fit in an int
+	 */
+	public RepeatedString(String unit, int times) {
+		// O(1)
+		this.unit = unit;
+		this.times = Math.max(0, times);
+		length(unit, this.times);
+	}
+
+	/**
+	 * @param unit
+	 *            is the string to repeat
+	 * @param times
+	 *            is how many times to repeat it, at least 0
+	 * @throws IllegalArgumentException
+	 *             if the repeated length would not fit in an int
+	 * @return returns the length of unit repeated times times
+	 */
+	static int length(String unit, int times) {
+		// O(1)
+		long length = (long) unit.length() * times;
+		if (length > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Repeated string is too long!");
+		}
+		return (int) length;
+	}
+
+	/**
+	 * @return returns the number of characters in the sequence
+	 */
+	public int length() {
+		// O(1)
+		return unit.length() * times;
+	}
+
+	/**
+	 * @param index
+	 *            is the position of the character
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or at least length()
+	 * @return returns the character at index
+	 */
+	public char charAt(int index) {
+		// O(1)
+		if (index < 0 || index >= this.length()) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return unit.charAt(index % unit.length());
+	}
+
+	/**
+	 * @param start
+	 *            is the first index of the subsequence
+	 * @param end
+	 *            is the index after the last index of the subsequence
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not inside the sequence
+	 * @return returns the characters from start to end as a String
+	 */
+	public CharSequence subSequence(int start, int end) {
+		// O(end - start)
+		if (start < 0 || end > this.length() || start > end) {
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		StringBuilder sb = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			sb.append(unit.charAt(i % unit.length()));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return returns the repeated string, built in one presized buffer
+	 */
+	@Override
+	public String toString() {
+		// O(length())
+		StringBuilder sb = new StringBuilder(this.length());
+		for (int i = 0; i < times; i++) {
+			sb.append(unit);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @param o
+	 *            is the object to compare with
+	 * @return returns true if o is a RepeatedString with the same characters
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof RepeatedString)) {
+			return false;
+		}
+		RepeatedString other = (RepeatedString) o;
+		if (unit.equals(other.unit) && times == other.times) {
+			return true;
+		}
+		if (this.length() != other.length()) {
+			return false;
+		}
+		for (int i = 0; i < this.length(); i++) {
+			if (this.charAt(i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return returns the same hash code as toString().hashCode() without
+	 *         building the string
+	 */
+	@Override
+	public int hashCode() {
+		// O(length()) the first time, then O(1)
+		int h = hash;
+		if (h == 0) {
+			for (int i = 0; i < times; i++) {
+				for (int k = 0; k < unit.length(); k++) {
+					h = 31 * h + unit.charAt(k);
+				}
+			}
+			hash = h;
+		}
+		return h;
+	}
+
+	public static void main(String[] args) {
+		RepeatedString rs = new RepeatedString("ab", 3);
+		if (rs.length() == 6 && rs.charAt(3) == 'b' && rs.toString().equals("ababab")
+				&& rs.subSequence(1, 4).toString().equals("bab") && rs.hashCode() == "ababab".hashCode()) {
+			System.out.println("Yay 1");
+		}
+		if (rs.equals(new RepeatedString("ababab", 1)) && !rs.equals(new RepeatedString("abab", 1))
+				&& new RepeatedString("abc", -1).length() == 0) {
+			System.out.println("Yay 2");
+		}
+		RepeatedString big = new RepeatedString("xyz", 100000000);
+		if (big.length() == 300000000 && big.charAt(299999999) == 'z') {
+			System.out.println("Yay 3");
+		}
+	}
+}
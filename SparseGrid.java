@@ -0,0 +1,423 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid that only stores cells that differ from a default value, such as zero
+ * counts or blank colors. Each row keeps its non-default cells in a small open-addressed hash map from
+ * column index to value, and a row with none keeps nothing at all, so the grid uses memory in proportion
+ * to the number of rows plus the number of non-default cells. Reading an unset cell returns the default,
+ * and setting a cell to the default frees it.
+ */
+public class SparseGrid<T> implements Grid<T> {
+
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity of the row spine
+	private final T defaultValue; // the value of every cell that is not stored
+	private Row[] rows; // rows[r] holds the non-default cells of row r, or null if it has none
+	private int numRow = 0;
+	private int numCol = 0;
+	private int stored = 0; // how many non-default cells there are
+
+	/**
+	 * The non-default cells of one row, in an open-addressed table with
+	 * linear probing. keys[slot] is a column index or -1 for a free slot.
+	 */
+	private static final class Row {
+		int[] keys;
+		Object[] vals;
+		int count;
+
+		Row(int capacity) {
+			keys = new int[capacity];
+			vals = new Object[capacity];
+			Arrays.fill(keys, -1);
+		}
+
+		/**
+		 * @return returns the slot of col, or the free slot where it would go
+		 */
+		int find(int col) {
+			return find(keys, col);
+		}
+
+		/**
+		 * @param keys
+		 *            is a table whose length is a power of two, at least 2
+		 * @return returns the slot of col in keys, or the free slot where it
+		 *         would go
+		 */
+		static int find(int[] keys, int col) {
+			int mask = keys.length - 1;
+			// the top log2(length) bits of the product are the best mixed ones
+			int slot = (col * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(keys.length) + 1);
+			while (keys[slot] != -1 && keys[slot] != col) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		/**
+		 * @return returns the old value, or null if col was not stored
+		 */
+		Object put(int col, Object value) {
+			int slot = find(col);
+			if (keys[slot] == col) {
+				Object old = vals[slot];
+				vals[slot] = value;
+				return old;
+			}
+			keys[slot] = col;
+			vals[slot] = value;
+			count++;
+			// keep the table at most half full so probes stay short
+			if (count * 2 > keys.length) {
+				rehash(keys.length * 2);
+			}
+			return null;
+		}
+
+		/**
+		 * Remove col, moving later entries of its probe run back so no lookup
+		 * stops early at the freed slot.
+		 */
+		void remove(int slot) {
+			int mask = keys.length - 1;
+			keys[slot] = -1;
+			vals[slot] = null;
+			count--;
+			int next = (slot + 1) & mask;
+			while (keys[next] != -1) {
+				int key = keys[next];
+				Object val = vals[next];
+				keys[next] = -1;
+				vals[next] = null;
+				int home = find(key);
+				keys[home] = key;
+				vals[home] = val;
+				next = (next + 1) & mask;
+			}
+		}
+
+		void rehash(int capacity) {
+			// fill the new table before publishing it, so keys is never seen
+			// without its free-slot markers
+			int[] newKeys = new int[capacity];
+			Object[] newVals = new Object[capacity];
+			Arrays.fill(newKeys, -1);
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != -1) {
+					int slot = find(newKeys, keys[i]);
+					newKeys[slot] = keys[i];
+					newVals[slot] = vals[i];
+				}
+			}
+			vals = newVals;
+			keys = newKeys;
+		}
+	}
+
+	/**
+	 * @param defaultValue
+	 *            is the value of every cell that has not been set to something
+	 *            else, may be null
+	 */
+	public SparseGrid(T defaultValue) {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this.defaultValue = defaultValue;
+		this.rows = new Row[INITCAP];
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	/**
+	 * @return returns how many cells hold something other than the default
+	 */
+	public int getNumStored() {
+		// O(1)
+		return stored;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int indexRow, int indexCol) {
+		// O(1) expected
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Row row = rows[indexRow];
+		if (row == null) {
+			return defaultValue;
+		}
+		int slot = row.find(indexCol);
+		return row.keys[slot] == indexCol ? (T) row.vals[slot] : defaultValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1) expected
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Row row = rows[indexRow];
+		if (Objects.equals(value, defaultValue)) {
+			// a default cell is not stored, free it if it was
+			if (row == null) {
+				return defaultValue;
+			}
+			int slot = row.find(indexCol);
+			if (row.keys[slot] != indexCol) {
+				return defaultValue;
+			}
+			T oldItem = (T) row.vals[slot];
+			row.remove(slot);
+			stored--;
+			if (row.count == 0) {
+				rows[indexRow] = null;
+			}
+			return oldItem;
+		}
+		if (row == null) {
+			row = new Row(INITCAP);
+			rows[indexRow] = row;
+		}
+		int before = row.count;
+		T oldItem = (T) row.put(indexCol, value);
+		stored += row.count - before;
+		return row.count == before ? oldItem : defaultValue;
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// amortized O(C + R) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			numCol = newRow.size();
+		} else if (newRow.size() != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		// double the row capacity if no space is available
+		if (numRow == rows.length) {
+			rows = Arrays.copyOf(rows, rows.length * 2);
+		}
+		System.arraycopy(rows, index, rows, index + 1, numRow - index);
+		rows[index] = this.pack(newRow);
+		numRow++;
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// O(R + S) where R is the number of rows and S is the number of
+		// non-default cells
+		if (index < 0 || index > numCol || numRow == 0 || newCol.size() != numRow) {
+			return false;
+		}
+		for (int r = 0; r < numRow; r++) {
+			// the cells from index on move one column right
+			Row row = this.shift(rows[r], index, -1, 1);
+			T value = newCol.get(r);
+			if (!Objects.equals(value, defaultValue)) {
+				if (row == null) {
+					row = new Row(INITCAP);
+				}
+				row.put(index, value);
+				stored++;
+			}
+			rows[r] = row;
+		}
+		numCol++;
+		return true;
+	}
+
+	@Override
+	public DynamicArray<T> removeRow(int index) {
+		// O(C + R) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int c = 0; c < numCol; c++) {
+			oldRow.add(this.get(index, c));
+		}
+		if (rows[index] != null) {
+			stored -= rows[index].count;
+		}
+		System.arraycopy(rows, index + 1, rows, index, numRow - index - 1);
+		numRow--;
+		rows[numRow] = null;
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		// halve the row capacity if fewer than 1/3 of the rows are used
+		if (numRow < rows.length / 3.0 && rows.length / 2 >= INITCAP) {
+			rows = Arrays.copyOf(rows, rows.length / 2);
+		}
+		return oldRow;
+	}
+
+	@Override
+	public DynamicArray<T> removeCol(int index) {
+		// O(R + S) where R is the number of rows and S is the number of
+		// non-default cells
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			oldCol.add(this.get(r, index));
+			// drop the cell at index, the cells after it move one column left
+			rows[r] = this.shift(rows[r], index + 1, index, -1);
+		}
+		numCol--;
+		return oldCol;
+	}
+
+	/**
+	 * @param values
+	 *            is a whole row
+	 * @return returns the non-default cells of values, or null if there are
+	 *         none
+	 */
+	private Row pack(DynamicArray<T> values) {
+		// O(C) where C is the number of columns
+		Row row = null;
+		for (int c = 0; c < values.size(); c++) {
+			T value = values.get(c);
+			if (!Objects.equals(value, defaultValue)) {
+				if (row == null) {
+					row = new Row(INITCAP);
+				}
+				row.put(c, value);
+				stored++;
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Renumber the columns of a row: the cell at column drop (if any) is
+	 * removed and every column at least from moves by delta.
+	 *
+	 * @param row
+	 *            is the row to renumber, may be null
+	 * @param from
+	 *            is the first column to move
+	 * @param drop
+	 *            is a column to remove, or -1
+	 * @param delta
+	 *            is how far the moved columns go
+	 * @return returns the renumbered row, or null if it has no cells left
+	 */
+	private Row shift(Row row, int from, int drop, int delta) {
+		// O(S) where S is the number of non-default cells in the row
+		if (row == null) {
+			return null;
+		}
+		// keys change, so the entries go into a new table rather than
+		// being moved around in place
+		Row moved = new Row(row.keys.length);
+		for (int i = 0; i < row.keys.length; i++) {
+			int col = row.keys[i];
+			if (col == -1) {
+				continue;
+			}
+			if (col == drop) {
+				stored--;
+				continue;
+			}
+			moved.put(col >= from ? col + delta : col, row.vals[i]);
+		}
+		if (moved.count == 0) {
+			return null;
+		}
+		// give back table space if the row lost most of its cells
+		if (moved.count * 8 < moved.keys.length && moved.keys.length > INITCAP) {
+			moved.rehash(Math.max(INITCAP, Integer.highestOneBit(moved.count) * 4));
+		}
+		return moved;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(this.get(r, c)).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		SparseGrid<Integer> sgrid = new SparseGrid<>(0);
+		for (int r = 0; r < 4; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>();
+			for (int c = 0; c < 5; c++) {
+				row.add(r == c ? r + 1 : 0);
+			}
+			sgrid.addRow(r, row);
+		}
+		if (sgrid.getNumRow() == 4 && sgrid.getNumCol() == 5 && sgrid.getNumStored() == 4 && sgrid.get(2, 2) == 3
+				&& sgrid.get(2, 3) == 0) {
+			System.out.println("Yay 1");
+		}
+
+		if (sgrid.set(1, 4, 7) == 0 && sgrid.set(1, 1, 0) == 2 && sgrid.getNumStored() == 4 && sgrid.get(1, 4) == 7
+				&& sgrid.get(1, 1) == 0) {
+			System.out.println("Yay 2");
+		}
+
+		DynamicArray<Integer> col = new DynamicArray<>();
+		for (int r = 0; r < 4; r++) {
+			col.add(r % 2 == 0 ? 0 : -1);
+		}
+		sgrid.addCol(0, col);
+		DynamicArray<Integer> removed = sgrid.removeCol(3);
+		sgrid.removeRow(0);
+		if (sgrid.getNumRow() == 3 && sgrid.getNumCol() == 5 && removed.get(2) == 3 && sgrid.get(0, 0) == -1
+				&& sgrid.get(0, 4) == 7 && sgrid.get(2, 3) == 4 && sgrid.getNumStored() == 4) {
+			System.out.println("Yay 3");
+		}
+
+		// counts are mostly zero, so a counting table stores little
+		Table<String, String, Integer, SubstringCounter> ctable = new Table<>(new SubstringCounter(),
+				new SparseGrid<Integer>(0));
+		ctable.addRow(0, "aaaa");
+		ctable.addRow(1, "bbbb");
+		ctable.addCol(0, "a");
+		ctable.addCol(1, "c");
+		ctable.addCol(2, "bb");
+		if (ctable.getCell(0, 0) == 4 && ctable.getCell(1, 2) == 3 && ctable.getCell(1, 1) == 0) {
+			System.out.println("Yay 4");
+		}
+	}
+}
@@ -15,6 +15,36 @@ public class StringAdder implements Combiner<String, String, String>{
 	public String combine(String operand1, String operand2){
 		return operand1 + " " + operand2;
 	}
+
+	/**
+	 *  Concatenate operand1 with each string of operands2, building the
+	 *  shared "operand1 " prefix only once.
+	 *  @param operand1 first string of every concatenation
+	 *  @param operands2 second strings
+	 *  @param dest where the concatenations are appended
+	 */
+	@Override
+	public void combineRow(String operand1, DynamicArray<String> operands2, DynamicArray<String> dest){
+		String prefix = operand1 + " ";
+		for (int i = 0; i < operands2.size(); i++) {
+			dest.add(prefix.concat(String.valueOf(operands2.get(i))));
+		}
+	}
+
+	/**
+	 *  Concatenate each string of operands1 with operand2, building the
+	 *  shared " operand2" suffix only once.
+	 *  @param operands1 first strings
+	 *  @param operand2 second string of every concatenation
+	 *  @param dest where the concatenations are appended
+	 */
+	@Override
+	public void combineCol(DynamicArray<String> operands1, String operand2, DynamicArray<String> dest){
+		String suffix = " " + operand2;
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(String.valueOf(operands1.get(i)).concat(suffix));
+		}
+	}
 	
 	/**
 	 *  A main method to test/demo
@@ -18,13 +18,17 @@ public class StringTimer implements Combiner<String, Integer, String> {
 	public String combine(String operand1, Integer operand2) {
 		// O(NL) where N is the value of operand2 and L is the length of
 		// operand1
-		String str = "";
+		if (operand2 <= 0 || operand1.isEmpty()) {
+			return "";
+		}
 		// return a string as a repetition of the original string operand1
 		// the number of repeats is specified by integer operand2
+		// the buffer is sized up front so every character is copied once
+		StringBuilder str = new StringBuilder(RepeatedString.length(operand1, operand2));
 		for (int i = 0; i < operand2; i++) {
-			str += operand1;
+			str.append(operand1);
 		}
-		return str;
+		return str.toString();
 	}
 
 	// --------------------------------------------------------
@@ -0,0 +1,305 @@
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class wraps a grid so many threads can read and write its cells at once. Rows are spread over a
+ * fixed set of lock stripes, so get and set only lock the stripe of their row and writers to different
+ * rows almost never wait for each other. Adding or removing a row or column moves cells between rows, so
+ * it takes every stripe, always in the same order, and no cell access can overlap it.
+ * <p>
+ * Two threads holding different stripes may set cells of the wrapped grid at the same time, so only
+ * layouts whose set never touches state shared with another row are accepted. CowGrid and SparseGrid,
+ * whose writes can replace a shared spine or rehash a shared table, are rejected.
+ */
+public class StripedGrid<T> implements Grid<T> {
+
+	private final Grid<T> grid; // the wrapped grid, only touched while holding a stripe
+	private final ReentrantLock[] stripes; // row r is guarded by stripes[r & mask]
+	private final int mask;
+	private volatile int numRow = 0; // published after every structural change
+	private volatile int numCol = 0;
+
+	/**
+	 * Wraps grid with four stripes per available processor.
+	 *
+	 * @param grid
+	 *            is the grid to guard, it must not be used directly afterwards
+	 */
+	public StripedGrid(Grid<T> grid) {
+		this(grid, 4 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to guard, it must not be used directly afterwards
+	 * @param stripes
+	 *            is roughly how many locks to spread the rows over, it is
+	 *            rounded up to a power of two
+	 * @throws IllegalArgumentException
+	 *             if stripes is less than 1 or the rows of grid cannot be
+	 *             written by different threads at once
+	 */
+	public StripedGrid(Grid<T> grid, int stripes) {
+		if (stripes < 1) {
+			throw new IllegalArgumentException("Need at least one stripe!");
+		}
+		if (!rowsIndependent(grid)) {
+			throw new IllegalArgumentException("Grid shares state between rows!");
+		}
+		int n = Integer.highestOneBit(stripes);
+		if (n < stripes) {
+			n <<= 1;
+		}
+		this.grid = grid;
+		this.stripes = new ReentrantLock[n];
+		for (int i = 0; i < n; i++) {
+			this.stripes[i] = new ReentrantLock();
+		}
+		this.mask = n - 1;
+		this.numRow = grid.getNumRow();
+		this.numCol = grid.getNumCol();
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to check
+	 * @return returns true if grid is a layout whose cells in different rows
+	 *         can be set by different threads at once without sharing any
+	 *         state
+	 */
+	private static boolean rowsIndependent(Grid<?> grid) {
+		// O(1)
+		// exact classes, a subclass could share state between rows again
+		Class<?> type = grid.getClass();
+		return type == FlatGrid.class || type == DynamicGrid.class || type == ColumnGrid.class
+				|| type == TiledGrid.class || type == IntGrid.class || type == OffHeapIntGrid.class;
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	@Override
+	public T get(int indexRow, int indexCol) {
+		// O(1), only waits for writers to the same stripe
+		ReentrantLock stripe = stripes[indexRow & mask];
+		stripe.lock();
+		try {
+			return grid.get(indexRow, indexCol);
+		} finally {
+			stripe.unlock();
+		}
+	}
+
+	@Override
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1), only waits for readers and writers of the same stripe
+		ReentrantLock stripe = stripes[indexRow & mask];
+		stripe.lock();
+		try {
+			return grid.set(indexRow, indexCol, value);
+		} finally {
+			stripe.unlock();
+		}
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.addRow(index, newRow);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.addCol(index, newCol);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public DynamicArray<T> removeRow(int index) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.removeRow(index);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public DynamicArray<T> removeCol(int index) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.removeCol(index);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.addRows(index, newRows);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			return grid.addCols(index, newCols);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public void removeRows(int from, int to) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			grid.removeRows(from, to);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	@Override
+	public void removeCols(int from, int to) {
+		// O(S) on top of the wrapped grid where S is the number of stripes
+		this.lockAll();
+		try {
+			grid.removeCols(from, to);
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	/**
+	 * Take every stripe in index order, so two structural changes can never
+	 * deadlock each other.
+	 */
+	private void lockAll() {
+		for (ReentrantLock stripe : stripes) {
+			stripe.lock();
+		}
+	}
+
+	/**
+	 * Publish the new shape and release every stripe.
+	 */
+	private void unlockAll() {
+		numRow = grid.getNumRow();
+		numCol = grid.getNumCol();
+		for (int i = stripes.length - 1; i >= 0; i--) {
+			stripes[i].unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		this.lockAll();
+		try {
+			return grid.toString();
+		} finally {
+			this.unlockAll();
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		StripedGrid<Integer> sgrid = new StripedGrid<>(new DynamicGrid<Integer>(), 3);
+		for (int r = 0; r < 64; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>();
+			for (int c = 0; c < 8; c++) {
+				row.add(0);
+			}
+			sgrid.addRow(r, row);
+		}
+		if (sgrid.stripes.length == 4 && sgrid.getNumRow() == 64 && sgrid.getNumCol() == 8) {
+			System.out.println("Yay 1");
+		}
+
+		// each thread bumps every cell of its own rows while another thread
+		// adds and removes a column at the end
+		Thread[] writers = new Thread[4];
+		for (int t = 0; t < writers.length; t++) {
+			final int first = t;
+			writers[t] = new Thread(() -> {
+				for (int k = 0; k < 500; k++) {
+					for (int r = first; r < 64; r += 4) {
+						for (int c = 0; c < 8; c++) {
+							sgrid.set(r, c, sgrid.get(r, c) + 1);
+						}
+					}
+				}
+			});
+		}
+		Thread resizer = new Thread(() -> {
+			for (int k = 0; k < 500; k++) {
+				DynamicArray<Integer> col = new DynamicArray<>();
+				for (int r = 0; r < 64; r++) {
+					col.add(-1);
+				}
+				sgrid.addCol(8, col);
+				sgrid.removeCol(8);
+			}
+		});
+		for (Thread w : writers) {
+			w.start();
+		}
+		resizer.start();
+		for (Thread w : writers) {
+			w.join();
+		}
+		resizer.join();
+		boolean ok = sgrid.getNumCol() == 8;
+		for (int r = 0; r < 64; r++) {
+			for (int c = 0; c < 8; c++) {
+				ok = ok && sgrid.get(r, c) == 500;
+			}
+		}
+		if (ok) {
+			System.out.println("Yay 2");
+		}
+
+		try {
+			new StripedGrid<>(new CowGrid<Integer>());
+		} catch (IllegalArgumentException e) {
+			try {
+				new StripedGrid<>(new SparseGrid<Integer>(0));
+			} catch (IllegalArgumentException e2) {
+				System.out.println("Yay 3");
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class measures write throughput when many threads set uniformly random cells of one grid, with a
+ * single lock around the grid and with StripedGrid, for 1 writer up to one writer per core.
+ */
+public class StripedGridBenchmark {
+
+	private static final int SIZE = 1024; // rows and columns of the grid
+	private static final int WRITES = 2000000; // cell writes per thread
+
+	/**
+	 * @param grid
+	 *            is the grid to write to
+	 * @param writers
+	 *            is how many writer threads to run
+	 * @return returns writes per second across all writers
+	 */
+	private static double run(Grid<Integer> grid, int writers) throws InterruptedException {
+		Thread[] threads = new Thread[writers];
+		for (int t = 0; t < writers; t++) {
+			final int seed = t;
+			threads[t] = new Thread(() -> {
+				int x = seed * 7919 + 1;
+				for (int k = 0; k < WRITES; k++) {
+					// xorshift, cheap enough not to hide the write cost
+					x ^= x << 13;
+					x ^= x >>> 17;
+					x ^= x << 5;
+					grid.set((x & 0x7fffffff) % SIZE, (x >>> 11) % SIZE, k);
+				}
+			});
+		}
+		long start = System.nanoTime();
+		for (Thread t : threads) {
+			t.start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		return (double) WRITES * writers / ((System.nanoTime() - start) / 1e9);
+	}
+
+	/**
+	 * @return returns a SIZE x SIZE grid of zeros
+	 */
+	private static FlatGrid<Integer> build() {
+		FlatGrid<Integer> grid = new FlatGrid<>();
+		for (int r = 0; r < SIZE; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>(SIZE);
+			for (int c = 0; c < SIZE; c++) {
+				row.add(0);
+			}
+			grid.addRow(r, row);
+		}
+		return grid;
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		FlatGrid<Integer> plain = build();
+		Grid<Integer> global = new Grid<Integer>() {
+			public synchronized int getNumRow() {
+				return plain.getNumRow();
+			}
+
+			public synchronized int getNumCol() {
+				return plain.getNumCol();
+			}
+
+			public synchronized Integer get(int r, int c) {
+				return plain.get(r, c);
+			}
+
+			public synchronized Integer set(int r, int c, Integer v) {
+				return plain.set(r, c, v);
+			}
+
+			public synchronized boolean addRow(int i, DynamicArray<Integer> row) {
+				return plain.addRow(i, row);
+			}
+
+			public synchronized boolean addCol(int i, DynamicArray<Integer> col) {
+				return plain.addCol(i, col);
+			}
+
+			public synchronized DynamicArray<Integer> removeRow(int i) {
+				return plain.removeRow(i);
+			}
+
+			public synchronized DynamicArray<Integer> removeCol(int i) {
+				return plain.removeCol(i);
+			}
+		};
+		StripedGrid<Integer> striped = new StripedGrid<>(build());
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		System.out.println(String.format("%-10s %16s %16s", "writers", "global lock", "striped"));
+		for (int writers = 1; writers <= cores; writers *= 2) {
+			double a = run(global, writers);
+			double b = run(striped, writers);
+			System.out.println(String.format("%-10d %12.1f M/s %12.1f M/s", writers, a / 1e6, b / 1e6));
+		}
+	}
+}
@@ -1,3 +1,5 @@
+import java.util.Arrays;
+
 /**
  * @author Helena Gray
  * @version 9.16.2018
@@ -5,6 +7,22 @@
  * This class counts and returns the number of occurences of a substring within another string.
  */
 public class SubstringCounter implements Combiner<String, String, Integer>{
+
+	/**
+	 * The automaton built for the last row of patterns, reused while the
+	 * patterns stay the same.
+	 */
+	private static final class RowAutomaton {
+		private final String[] patterns;
+		private final AhoCorasick automaton;
+
+		RowAutomaton(String[] patterns) {
+			this.patterns = patterns;
+			this.automaton = new AhoCorasick(patterns);
+		}
+	}
+
+	private volatile RowAutomaton lastRow; // null until the first combineRow
 	
 		/**
 		 * @param operand1
@@ -15,17 +33,98 @@ public class SubstringCounter implements Combiner<String, String, Integer>{
 		 * @return returns the number of times operand2 is present in operand1
 		 */
 	public Integer combine(String operand1, String operand2){
-		// O(NM) where N is the length of operand1 and M is the length of operand2
-		  
-		Integer count = 0;
-		int check = operand1.length() - operand2.length();
-		// count how many times operand2 occurs in operand1 as a substring
-		for(int k=0; k<= check; k++){
-			if(operand1.regionMatches(k,operand2,0,(operand2.length()-1))){
+		// O(N+M) where N is the length of operand1 and M is the length of operand2
+		return count(operand1, operand2, failure(operand2));
+	}
+
+	/**
+	 * Count every pattern in one text with a single pass over the text.
+	 * @param operand1 the text of every combination
+	 * @param operands2 the patterns to count
+	 * @param dest where the counts are appended
+	 */
+	@Override
+	public void combineRow(String operand1, DynamicArray<String> operands2, DynamicArray<Integer> dest){
+		// O(N+M) where N is the length of operand1 and M is the total length of
+		// the patterns, the automaton is only rebuilt when the patterns change
+		String[] patterns = new String[operands2.size()];
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = operands2.get(i);
+		}
+		RowAutomaton row = lastRow;
+		if (row == null || !Arrays.equals(row.patterns, patterns)) {
+			row = new RowAutomaton(patterns);
+			lastRow = row;
+		}
+		for (int c : row.automaton.count(operand1)) {
+			dest.add(c);
+		}
+	}
+
+	/**
+	 * Count one pattern in every text, building its failure table once.
+	 * @param operands1 the texts to search
+	 * @param operand2 the pattern of every combination
+	 * @param dest where the counts are appended
+	 */
+	@Override
+	public void combineCol(DynamicArray<String> operands1, String operand2, DynamicArray<Integer> dest){
+		// O(N+M) where N is the total length of the texts and M is the length
+		// of operand2
+		int[] fail = failure(operand2);
+		for (int i = 0; i < operands1.size(); i++) {
+			dest.add(count(operands1.get(i), operand2, fail));
+		}
+	}
+
+	/**
+	 * @param pattern the pattern to build the table for
+	 * @return the Knuth-Morris-Pratt failure table of pattern, entry i is the
+	 *         length of the longest proper border of pattern[0..i]
+	 */
+	private static int[] failure(String pattern){
+		// O(M) where M is the length of pattern
+		int[] fail = new int[pattern.length()];
+		int k = 0;
+		for (int i = 1; i < pattern.length(); i++) {
+			while (k > 0 && pattern.charAt(i) != pattern.charAt(k)) {
+				k = fail[k - 1];
+			}
+			if (pattern.charAt(i) == pattern.charAt(k)) {
+				k++;
+			}
+			fail[i] = k;
+		}
+		return fail;
+	}
+
+	/**
+	 * @param text the string to search
+	 * @param pattern the string to count, overlaps included
+	 * @param fail the failure table of pattern
+	 * @return the number of times pattern occurs in text
+	 */
+	private static int count(String text, String pattern, int[] fail){
+		// O(N) where N is the length of text
+		int m = pattern.length();
+		if (m == 0) {
+			// the empty string occurs at every position, ends included
+			return text.length() + 1;
+		}
+		int count = 0;
+		int k = 0;
+		for (int i = 0; i < text.length(); i++) {
+			while (k > 0 && text.charAt(i) != pattern.charAt(k)) {
+				k = fail[k - 1];
+			}
+			if (text.charAt(i) == pattern.charAt(k)) {
+				k++;
+			}
+			if (k == m) {
 				count++;
+				k = fail[k - 1];
 			}
 		}
-		// return the count
 		return count;
 	}
 	
@@ -41,5 +140,20 @@ public class SubstringCounter implements Combiner<String, String, Integer>{
 			System.out.println("Yay 1");
 		}
 
+		// the last character of the pattern counts too
+		if (sc.combine("abc","abd") == 0 && sc.combine("abcabd","abd") == 1) {
+			System.out.println("Yay 2");
+		}
+
+		DynamicArray<String> patterns = new DynamicArray<>();
+		patterns.add("hello");
+		patterns.add("l");
+		patterns.add("abd");
+		DynamicArray<Integer> counts = new DynamicArray<>();
+		sc.combineRow("helloabchelloddefzdfjhello", patterns, counts);
+		sc.combineRow("abd", patterns, counts);
+		if (counts.get(0) == 3 && counts.get(1) == 6 && counts.get(2) == 0 && counts.get(5) == 1) {
+			System.out.println("Yay 3");
+		}
 	}
-}
\ No newline at end of file
+}
@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * @author Helena Gray
  * @version 9.16.2018
@@ -12,11 +15,17 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 											// values
 	private DynamicArray<ColType> colHead; // colHead as a list of ColType
 											// values
-	private DynamicGrid<CellType> board; // a 2-D grid of CellType values
+	private Grid<CellType> board; // a 2-D grid of CellType values
 											// determined by rowHead, colHead,
 											// and op
 	private OpType op; // op that defines a function f: f(RowType,ColType)->
 						// CellType
+	private CombineCache cache; // remembers combine results, null if not caching
+	private boolean frozen = false; // true for snapshots, which cannot be changed
+	private boolean headsShared = false; // true while a snapshot shares rowHead and colHead
+	// most cells a parallel recompute task combines before it stops splitting,
+	// though a task always takes at least one whole row
+	private static final int RECOMPUTE_GRAIN = 256;
 
 	/**
 	 * @param op
@@ -35,6 +44,160 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 
 	}
 
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 * @param board
+	 *            an empty grid that picks the cell layout, for example a
+	 *            DynamicGrid or FlatGrid for row-major storage or a ColumnGrid
+	 *            for column-major storage
+	 * @throws IllegalArgumentException
+	 *             if board already has rows or columns
+	 */
+	public Table(OpType op, Grid<CellType> board) {
+		// constructor
+		if (board.getNumRow() != 0 || board.getNumCol() != 0) {
+			throw new IllegalArgumentException("Board must be empty!");
+		}
+		rowHead = new DynamicArray();
+		colHead = new DynamicArray();
+		this.board = board;
+		this.op = op;
+	}
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 * @param board
+	 *            an empty grid that picks the cell layout, presized by the
+	 *            caller if its layout allows it
+	 * @param rowCapacity
+	 *            how many rows the table will hold, so the row head is
+	 *            allocated once
+	 * @param colCapacity
+	 *            how many columns the table will hold, so the column head is
+	 *            allocated once
+	 * @throws IllegalArgumentException
+	 *             if board already has rows or columns or a capacity is less
+	 *             than 1
+	 */
+	public Table(OpType op, Grid<CellType> board, int rowCapacity, int colCapacity) {
+		// constructor
+		this(op, board);
+		if (rowCapacity < 1 || colCapacity < 1) {
+			throw new IllegalArgumentException("Table cannot be smaller than 1x1!");
+		}
+		rowHead.ensureCapacity(rowCapacity);
+		colHead.ensureCapacity(colCapacity);
+	}
+
+	/**
+	 * Builds a table over headers and a board that already hold matching
+	 * cells, read-only for snapshots whose creator will not write them again.
+	 */
+	private Table(OpType op, DynamicArray<RowType> rowHead, DynamicArray<ColType> colHead, Grid<CellType> board,
+			CombineCache cache, boolean frozen) {
+		this.op = op;
+		this.rowHead = rowHead;
+		this.colHead = colHead;
+		this.board = board;
+		this.cache = cache;
+		this.frozen = frozen;
+	}
+
+	/**
+	 * Rebuild a table from saved headers and cells without calling op, for
+	 * example when TableFile reopens a file.
+	 * 
+	 * @param op
+	 *            is the operator the cells were calculated with
+	 * @param rowHead
+	 *            are the row labels, owned by the table from now on
+	 * @param colHead
+	 *            are the column labels, owned by the table from now on
+	 * @param board
+	 *            holds the cells op gives for the labels, one row per row
+	 *            label and one column per column label
+	 * @return returns a table that can be changed like any other
+	 */
+	static <R, C, V, O extends Combiner<R, C, V>> Table<R, C, V, O> restore(O op, DynamicArray<R> rowHead,
+			DynamicArray<C> colHead, Grid<V> board) {
+		// O(1)
+		return new Table<>(op, rowHead, colHead, board, null, false);
+	}
+
+	/**
+	 * Take a consistent read-only copy of the table. The copy can be read,
+	 * for example by toString, on another thread while this table keeps
+	 * changing, as long as it is handed over safely (a volatile field, a
+	 * concurrent queue, or a lock).
+	 * 
+	 * @return returns a table with the current headers and cells whose
+	 *         mutating methods throw UnsupportedOperationException
+	 */
+	public Table<RowType, ColType, CellType, OpType> snapshot() {
+		// O(1) when the board is a CowGrid, O(RC) otherwise where R is the
+		// number of rows and C is the number of columns
+		if (frozen) {
+			return this;
+		}
+		Grid<CellType> view;
+		if (board instanceof CowGrid) {
+			view = ((CowGrid<CellType>) board).snapshot();
+		} else {
+			// other layouts cannot share their cells, so copy them once
+			FlatGrid<CellType> copy = new FlatGrid<>(Math.max(1, this.getSizeRow()), Math.max(1, this.getSizeCol()));
+			for (int i = 0; i < this.getSizeRow(); i++) {
+				DynamicArray<CellType> row = new DynamicArray<>(Math.max(1, this.getSizeCol()));
+				for (int k = 0; k < this.getSizeCol(); k++) {
+					row.add(board.get(i, k));
+				}
+				copy.addRow(i, row);
+			}
+			view = copy;
+		}
+		// the headers are copied by whichever write touches them first
+		headsShared = true;
+		return new Table<>(op, rowHead, colHead, view, cache, true);
+	}
+
+	/**
+	 * @return returns true if this table is a snapshot and cannot be changed
+	 */
+	public boolean isFrozen() {
+		// O(1)
+		return frozen;
+	}
+
+	/**
+	 * Called before every change: snapshots cannot change, and headers a
+	 * snapshot still shares are copied first.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             if this table is a snapshot
+	 */
+	private void beforeWrite() {
+		// O(R+C) for the first write after a snapshot, O(1) otherwise
+		if (frozen) {
+			throw new UnsupportedOperationException("Snapshot cannot be changed!");
+		}
+		if (headsShared) {
+			DynamicArray<RowType> rows = new DynamicArray<>(Math.max(1, rowHead.size()));
+			for (int i = 0; i < rowHead.size(); i++) {
+				rows.add(rowHead.get(i));
+			}
+			DynamicArray<ColType> cols = new DynamicArray<>(Math.max(1, colHead.size()));
+			for (int i = 0; i < colHead.size(); i++) {
+				cols.add(colHead.get(i));
+			}
+			rowHead = rows;
+			colHead = cols;
+			headsShared = false;
+		}
+	}
+
 	/**
 	 * @return returns the the number of rows in the board
 	 */
@@ -97,6 +260,31 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 		return board.get(r, c);
 	}
 
+	/**
+	 * @return returns the operator the cells are calculated with
+	 */
+
+	public OpType getOp() {
+		// O(1)
+		return op;
+	}
+
+	/**
+	 * @return returns the row labels, for reading only
+	 */
+	DynamicArray<RowType> rowHeads() {
+		// O(1)
+		return rowHead;
+	}
+
+	/**
+	 * @return returns the column labels, for reading only
+	 */
+	DynamicArray<ColType> colHeads() {
+		// O(1)
+		return colHead;
+	}
+
 	/**
 	 * @param op
 	 *            op is the operator used to calculate the values for the cells
@@ -106,16 +294,262 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 	public void setOp(OpType op) {
 		// O(CR) where C is the number of columns and R is the number of rows of
 		// the grid
+		this.beforeWrite();
 		// change the operation
 		this.op = op;
-		// re-calculate and reset the cells of the board
-		for (int i = 0; i < this.getSizeRow(); i++) {
-			for (int k = 0; k < this.getSizeCol(); k++) {
-				board.set(i, k, op.combine(this.getRowHead(i), this.getColHead(k)));
+		// re-calculate and reset the cells of the board a row at a time
+		this.recomputeRows(op, this.intCols(op), 0, this.getSizeRow());
+	}
+
+	/**
+	 * @param op
+	 *            op is the operator used to calculate the values for the cells
+	 *            in the table
+	 * @param pool
+	 *            the pool to recalculate the cells on, for example
+	 *            ForkJoinPool.commonPool(); boards that share state between
+	 *            rows, such as a CowGrid or SparseGrid, are recalculated on
+	 *            the calling thread instead
+	 */
+	public void setOp(OpType op, ForkJoinPool pool) {
+		// O(CR/P) where C is the number of columns, R is the number of rows of
+		// the grid and P is the parallelism of pool
+		this.beforeWrite();
+		// change the operation
+		this.op = op;
+		int[] cols = this.intCols(op);
+		if (!this.rowsIndependent()) {
+			// the board shares state between rows, so only one thread may write
+			this.recomputeRows(op, cols, 0, this.getSizeRow());
+			return;
+		}
+		// re-calculate and reset the cells of the board in parallel bands of
+		// whole rows, each cell is still combined exactly once from the same
+		// operands
+		int grain = Math.max(1, RECOMPUTE_GRAIN / Math.max(1, this.getSizeCol()));
+		pool.invoke(new Recompute(op, cols, grain, 0, this.getSizeRow()));
+	}
+
+	/**
+	 * @return returns true if the board is a layout whose rows can be set by
+	 *         different threads at once without sharing any state
+	 */
+	private boolean rowsIndependent() {
+		// O(1)
+		// exact classes, a subclass could share state between rows again
+		Class<?> type = board.getClass();
+		return type == FlatGrid.class || type == DynamicGrid.class || type == IntGrid.class
+				|| type == OffHeapIntGrid.class;
+	}
+
+	/**
+	 * @param op
+	 *            the operator the cells will be calculated with
+	 * @return returns the column labels as ints if the board is filled
+	 *         without boxing, null otherwise
+	 */
+	private int[] intCols(OpType op) {
+		// O(C) where C is the number of columns
+		if (this.intBoard(op) == null || colHead.size() == 0) {
+			return null;
+		}
+		return IntKernels.toInts(this.intHeads(colHead));
+	}
+
+	/**
+	 * @param op
+	 *            the operator to calculate the cells with
+	 * @param cols
+	 *            the column labels as ints to fill an IntCellGrid board
+	 *            without boxing, null to set the cells one at a time
+	 * @param rowLo
+	 *            the first row to recalculate
+	 * @param rowHi
+	 *            the row after the last one to recalculate
+	 */
+	private void recomputeRows(OpType op, int[] cols, int rowLo, int rowHi) {
+		// O((rowHi-rowLo)C) where C is the number of columns
+		if (cols != null) {
+			IntCellGrid ints = (IntCellGrid) board;
+			int[] cells = new int[cols.length];
+			for (int i = rowLo; i < rowHi; i++) {
+				IntKernels.combineRow((IntegerComb) op, (Integer) this.getRowHead(i), cols, cells, cols.length);
+				ints.setRow(i, cells);
+			}
+			return;
+		}
+		for (int i = rowLo; i < rowHi; i++) {
+			DynamicArray<CellType> cells = this.rowCells(op, this.getRowHead(i));
+			for (int k = 0; k < cells.size(); k++) {
+				board.set(i, k, cells.get(k));
+			}
+		}
+	}
+
+	/**
+	 * @param cache
+	 *            the cache to look combine results up in before calculating
+	 *            them, may be shared with other tables, or null to always
+	 *            calculate
+	 */
+	public void setCache(CombineCache cache) {
+		// O(1)
+		this.beforeWrite();
+		this.cache = cache;
+	}
+
+	/**
+	 * @return returns the cache combine results are looked up in, or null
+	 */
+	public CombineCache getCache() {
+		// O(1)
+		return cache;
+	}
+
+	/**
+	 * @param op
+	 *            the operator to calculate the cell with
+	 * @param r
+	 *            the row label of the cell
+	 * @param c
+	 *            the column label of the cell
+	 * @return returns op applied to r and c, from the cache if there is one
+	 */
+	private CellType combine(OpType op, RowType r, ColType c) {
+		// O(1) plus one combine on a cache miss
+		if (cache == null) {
+			return op.combine(r, c);
+		}
+		return cache.combine(op, r, c);
+	}
+
+	/**
+	 * @param op
+	 *            the operator the cells will be calculated with
+	 * @return returns the board if it is an IntCellGrid that op can fill
+	 *         without boxing, null otherwise
+	 */
+	private IntCellGrid intBoard(OpType op) {
+		// O(1)
+		if (cache == null && board instanceof IntCellGrid && op instanceof IntegerComb) {
+			return (IntCellGrid) board;
+		}
+		return null;
+	}
+
+	/**
+	 * @param heads
+	 *            the row or column heads of a table whose op is an IntegerComb
+	 * @return returns heads as the list of Integers it holds
+	 */
+	@SuppressWarnings("unchecked")
+	private DynamicArray<Integer> intHeads(DynamicArray<?> heads) {
+		return (DynamicArray<Integer>) heads;
+	}
+
+	/**
+	 * @param op
+	 *            an IntegerComb operator to calculate the cells with
+	 * @param v
+	 *            the row label of the row
+	 * @return returns the unboxed cells of a row labelled v
+	 */
+	private int[] intRowCells(OpType op, RowType v) {
+		// O(C) where C is the number of columns
+		int[] cols = IntKernels.toInts(this.intHeads(colHead));
+		int[] cells = new int[cols.length];
+		IntKernels.combineRow((IntegerComb) op, (Integer) v, cols, cells, cols.length);
+		return cells;
+	}
+
+	/**
+	 * @param op
+	 *            an IntegerComb operator to calculate the cells with
+	 * @param v
+	 *            the column label of the column
+	 * @return returns the unboxed cells of a column labelled v
+	 */
+	private int[] intColCells(OpType op, ColType v) {
+		// O(R) where R is the number of rows
+		int[] rows = IntKernels.toInts(this.intHeads(rowHead));
+		int[] cells = new int[rows.length];
+		IntKernels.combineCol((IntegerComb) op, rows, (Integer) v, cells, rows.length);
+		return cells;
+	}
+
+	/**
+	 * @param op
+	 *            the operator to calculate the cells with
+	 * @param v
+	 *            the row label of the row
+	 * @return returns the cells of a row labelled v, one per column head
+	 */
+	private DynamicArray<CellType> rowCells(OpType op, RowType v) {
+		// O(C) where C is the number of columns
+		DynamicArray<CellType> cells = new DynamicArray<>(Math.max(1, colHead.size()));
+		if (cache == null) {
+			// one batch call lets op run its own loop over the column heads
+			op.combineRow(v, colHead, cells);
+		} else {
+			for (int m = 0; m < colHead.size(); m++) {
+				cells.add(cache.combine(op, v, colHead.get(m)));
+			}
+		}
+		return cells;
+	}
+
+	/**
+	 * @param op
+	 *            the operator to calculate the cells with
+	 * @param v
+	 *            the column label of the column
+	 * @return returns the cells of a column labelled v, one per row head
+	 */
+	private DynamicArray<CellType> colCells(OpType op, ColType v) {
+		// O(R) where R is the number of rows
+		DynamicArray<CellType> cells = new DynamicArray<>(Math.max(1, rowHead.size()));
+		if (cache == null) {
+			op.combineCol(rowHead, v, cells);
+		} else {
+			for (int m = 0; m < rowHead.size(); m++) {
+				cells.add(cache.combine(op, rowHead.get(m), v));
 			}
 		}
+		return cells;
 	}
 
+	/**
+	 * Recalculates a band of whole rows of the board, splitting it in half
+	 * until it is no more than grain rows. Bands never share a row, and the
+	 * board is one whose rows share no state, so no locking is needed.
+	 */
+	private class Recompute extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final OpType op;
+		private final int[] cols; // the column labels as ints, null if boxed
+		private final int grain; // most rows a task recalculates itself
+		private final int rowLo, rowHi; // the band is [rowLo,rowHi)
+
+		Recompute(OpType op, int[] cols, int grain, int rowLo, int rowHi) {
+			this.op = op;
+			this.cols = cols;
+			this.grain = grain;
+			this.rowLo = rowLo;
+			this.rowHi = rowHi;
+		}
+
+		@Override
+		protected void compute() {
+			if (rowHi - rowLo <= grain) {
+				recomputeRows(op, cols, rowLo, rowHi);
+			} else {
+				int mid = rowLo + (rowHi - rowLo) / 2;
+				invokeAll(new Recompute(op, cols, grain, rowLo, mid), new Recompute(op, cols, grain, mid, rowHi));
+			}
+		}
+	}
+
+
 	/**
 	 * @param i
 	 *            the index that indicates where to insert the row and row head
@@ -129,18 +563,15 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 		// i may be equal to the size (indicating that you are appending a row)
 		// calculate the new row based on v, existing colHead and op
 		// insert a new row to the grid at row index i
+		this.beforeWrite();
 		if (colHead.size() != 0) {
-			if (rowHead.size() == 0) {
-				// O(C)
-				for (int m = 0; m < colHead.size(); m++) {
-					board.set(i, m, op.combine(v, this.getColHead(m)));
-				}
+			IntCellGrid ints = this.intBoard(op);
+			if (ints != null) {
+				// O(C+R) without boxing a cell
+				ints.addRow(i, this.intRowCells(op, v));
 			} else {
-				DynamicArray tempArr = new DynamicArray(this.getSizeRow());
 				// O(C)
-				for (int m = 0; m < colHead.size(); m++) {
-					tempArr.add(op.combine(v, this.getColHead(m)));
-				}
+				DynamicArray<CellType> tempArr = this.rowCells(op, v);
 				// O(C+R)
 				board.addRow(i, tempArr);
 			}
@@ -170,18 +601,28 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 		// column)
 		// calculate the new column based on v, existing rowHead and op
 		// insert a new column to the grid at column index i
+		this.beforeWrite();
 		if (rowHead.size() != 0) {
+			IntCellGrid ints = this.intBoard(op);
+			if (ints != null) {
+				// O(RC) without boxing a cell
+				int[] cells = this.intColCells(op, v);
+				if (colHead.size() == 0) {
+					ints.setCol(i, cells);
+				} else {
+					ints.addCol(i, cells);
+				}
+				colHead.add(i, v);
+				return true;
+			}
+			// O(R)
+			DynamicArray<CellType> tempArr = this.colCells(op, v);
 			if (colHead.size() == 0) {
-				for (int m = 0; m < rowHead.size(); m++) {
-					// O(C)
-					board.set(m, i, op.combine(this.getRowHead(m), v));
+				// fill in the placeholder column
+				for (int m = 0; m < tempArr.size(); m++) {
+					board.set(m, i, tempArr.get(m));
 				}
 			} else {
-				DynamicArray tempArr = new DynamicArray();
-				// O(C)
-				for (int m = 0; m < rowHead.size(); m++) {
-					tempArr.add(op.combine(this.getRowHead(m), v));
-				}
 				// O(RC)
 				board.addCol(i, tempArr);
 			}
@@ -205,6 +646,7 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 	 */
 	public RowType removeRow(int i) {
 		// O(R) where R is the number of rows of the grid
+		this.beforeWrite();
 		if (i < 0 || i >= this.getSizeRow()) {
 			// throws IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
@@ -227,6 +669,7 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 	public ColType removeCol(int i) {
 		// O(CR) where R is the number of rows and
 		// C is the number of columns of the grid
+		this.beforeWrite();
 		if (i < 0 || i >= this.getSizeCol()) {
 			// throw IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
@@ -250,6 +693,7 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 	 */
 	public RowType setRow(int i, RowType v) {
 		// O(C) where C is the number of columns of the grid
+		this.beforeWrite();
 		if (i < 0 || i >= this.getSizeRow()) {
 			// throws IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
@@ -258,8 +702,16 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 			// change value of rowHead at index i to be v
 			rowHead.set(i, v);
 			// also change the ith row of grid using v, the ColTypes, and op
-			for (int m = 0; m < this.getSizeCol(); m++) {
-				board.set(i, m, op.combine(v, this.getColHead(m)));
+			IntCellGrid ints = this.intBoard(op);
+			if (ints != null) {
+				if (colHead.size() != 0) {
+					ints.setRow(i, this.intRowCells(op, v));
+				}
+			} else {
+				DynamicArray<CellType> cells = this.rowCells(op, v);
+				for (int m = 0; m < cells.size(); m++) {
+					board.set(i, m, cells.get(m));
+				}
 			}
 			// return old value of rowHead from index i
 			return oldValue;
@@ -278,6 +730,7 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 	 */
 	public ColType setCol(int i, ColType v) {
 		// O(R) where R is the number of rows of the grid
+		this.beforeWrite();
 		if (i < 0 || i >= this.getSizeCol()) {
 			// throws IndexOutOfBoundsException for invalid index
 			throw new IndexOutOfBoundsException("Index out of bounds!");
@@ -286,14 +739,152 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 			// change value of colHead at index i to be v
 			colHead.set(i, v);
 			// also change the ith column of grid using v, the RowTypes, and op
-			for (int m = 0; m < this.getSizeRow(); m++) {
-				board.set(m, i, op.combine(this.getRowHead(m), v));
+			IntCellGrid ints = this.intBoard(op);
+			if (ints != null) {
+				ints.setCol(i, this.intColCells(op, v));
+			} else {
+				DynamicArray<CellType> cells = this.colCells(op, v);
+				for (int m = 0; m < cells.size(); m++) {
+					board.set(m, i, cells.get(m));
+				}
 			}
 			// return old value of colHead from index i
 			return oldValue;
 		}
 	}
 
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the first new row
+	 * @param vs
+	 *            the row labels to insert in the row head, in order
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of rows
+	 * @return returns true if the rows are able to be added
+	 */
+	public boolean addRows(int i, DynamicArray<RowType> vs) {
+		// O(KC+R) where K is the number of new rows, R is the number of rows
+		// of the grid and C is the number of columns of the grid
+		this.beforeWrite();
+		if (i < 0 || i > rowHead.size()) {
+			// throws IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		// calculate every new row first, then shift the board and the row
+		// head once
+		DynamicArray<DynamicArray<CellType>> rows = new DynamicArray<>(Math.max(1, vs.size()));
+		for (int k = 0; k < vs.size(); k++) {
+			if (colHead.size() != 0) {
+				// O(C)
+				rows.add(this.rowCells(op, vs.get(k)));
+			} else {
+				DynamicArray tempArr = new DynamicArray();
+				tempArr.add(vs.get(k));
+				rows.add(tempArr);
+			}
+		}
+		// O(KC+R)
+		board.addRows(i, rows);
+		rowHead.addAll(i, vs);
+		return true;
+	}
+
+	/**
+	 * @param i
+	 *            the index that indicates where to insert the first new column
+	 * @param vs
+	 *            the column labels to insert in the column head, in order
+	 * @throws IndexOutOfBoundsException
+	 *             if index is less than 0 or greater than number of columns
+	 * @return returns true if the columns are able to be added
+	 */
+	public boolean addCols(int i, DynamicArray<ColType> vs) {
+		// O(R(C+K)) where K is the number of new columns, R is the number of
+		// rows of the grid and C is the number of columns of the grid
+		this.beforeWrite();
+		if (i < 0 || i > colHead.size()) {
+			// throws IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		int k = 0;
+		// a table without rows has no cells to calculate, and the first column
+		// of a table with rows fills in the placeholder column
+		while (k < vs.size() && (rowHead.size() == 0 || colHead.size() == 0)) {
+			this.addCol(i + k, vs.get(k));
+			k++;
+		}
+		if (k == vs.size()) {
+			return true;
+		}
+		// calculate every new column first, then shift each row and the
+		// column head once
+		DynamicArray<DynamicArray<CellType>> cols = new DynamicArray<>(Math.max(1, vs.size() - k));
+		DynamicArray<ColType> heads = new DynamicArray<>(Math.max(1, vs.size() - k));
+		for (int m = k; m < vs.size(); m++) {
+			// O(R)
+			cols.add(this.colCells(op, vs.get(m)));
+			heads.add(vs.get(m));
+		}
+		// O(R(C+K))
+		board.addCols(i + k, cols);
+		colHead.addAll(i + k, heads);
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            the index of the first row to remove
+	 * @param to
+	 *            the index after the last row to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than number of rows,
+	 *             or from is greater than to
+	 * @return returns the row heads of the removed rows
+	 */
+	public DynamicArray<RowType> removeRows(int from, int to) {
+		// O(R) where R is the number of rows of the grid, plus O((R-from)C)
+		// for layouts that store cells row by row
+		this.beforeWrite();
+		if (from < 0 || to > this.getSizeRow() || from > to) {
+			// throws IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<RowType> oldValues = new DynamicArray<>(Math.max(1, to - from));
+		for (int k = from; k < to; k++) {
+			oldValues.add(rowHead.get(k));
+		}
+		rowHead.removeRange(from, to);
+		board.removeRows(from, to);
+		return oldValues;
+	}
+
+	/**
+	 * @param from
+	 *            the index of the first column to remove
+	 * @param to
+	 *            the index after the last column to remove
+	 * @throws IndexOutOfBoundsException
+	 *             if from is less than 0, to is greater than number of
+	 *             columns, or from is greater than to
+	 * @return returns the column heads of the removed columns
+	 */
+	public DynamicArray<ColType> removeCols(int from, int to) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		// of the grid
+		this.beforeWrite();
+		if (from < 0 || to > this.getSizeCol() || from > to) {
+			// throws IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<ColType> oldValues = new DynamicArray<>(Math.max(1, to - from));
+		for (int k = from; k < to; k++) {
+			oldValues.add(colHead.get(k));
+		}
+		colHead.removeRange(from, to);
+		board.removeCols(from, to);
+		return oldValues;
+	}
+
 	// --------------------------------------------------------
 	// PROVIDED for you to help with testing
 	// DO NOT CHANGE CODE!
@@ -437,6 +1028,112 @@ public class Table<RowType, ColType, CellType, OpType extends Combiner<RowType,
 		}
 		// System.out.println(itable.toString());
 
+		Table<Integer, Integer, Integer, IntegerComb> ctable = new Table<>(new IntegerAdder(),
+				new ColumnGrid<Integer>());
+		for (int i = 0; i < 5; i++) {
+			ctable.addRow(ctable.getSizeRow(), i + 1);
+			ctable.addCol(0, (i + 1) * 10);
+		}
+		ctable.removeCol(2);
+		ctable.addCol(2, 100);
+		if (ctable.getSizeRow() == 5 && ctable.getSizeCol() == 5 && ctable.getCell(0, 0) == 51
+				&& ctable.getCell(4, 2) == 105 && ctable.getCell(3, 4) == 14) {
+			System.out.println("Yay 6");
+		}
+
+		ctable.setOp(new IntegerTimer(), ForkJoinPool.commonPool());
+		if (ctable.getCell(0, 0) == 50 && ctable.getCell(4, 2) == 500 && ctable.getCell(3, 4) == 40) {
+			System.out.println("Yay 7");
+		}
+
+		CombineCache cache = new CombineCache(100);
+		ctable.setCache(cache);
+		IntegerAdder adder = new IntegerAdder();
+		ctable.setOp(adder);
+		ctable.setOp(new IntegerTimer());
+		ctable.setOp(adder);
+		if (cache.misses() == 50 && cache.hits() == 25 && ctable.getCell(0, 0) == 51 && ctable.getCell(4, 2) == 105) {
+			System.out.println("Yay 8");
+		}
+
+		Table<Integer, Integer, Integer, IntegerComb> intTable = new Table<>(new IntegerAdder(), new IntGrid());
+		for (int i = 0; i < 5; i++) {
+			intTable.addRow(intTable.getSizeRow(), i + 1);
+			intTable.addCol(0, (i + 1) * 10);
+		}
+		intTable.setCol(4, 7);
+		intTable.setOp(new IntegerTimer());
+		intTable.setRow(0, 2);
+		if (intTable.getCell(0, 0) == 100 && intTable.getCell(4, 0) == 250 && intTable.getCell(3, 4) == 28) {
+			System.out.println("Yay 9");
+		}
+
+		Table<String, String, String, StringAdder> live = new Table<>(new StringAdder(), new CowGrid<String>());
+		live.addRow(0, "red");
+		live.addCol(0, "apple");
+		live.addCol(1, "kiwi");
+		Table<String, String, String, StringAdder> snap = live.snapshot();
+		live.setRow(0, "green");
+		live.addRow(1, "blue");
+		boolean frozen = false;
+		try {
+			snap.setCol(0, "pear");
+		} catch (UnsupportedOperationException e) {
+			frozen = true;
+		}
+		if (frozen && snap.getSizeRow() == 1 && snap.getRowHead(0).equals("red") && snap.getCell(0, 1).equals("red kiwi")
+				&& live.getSizeRow() == 2 && live.getCell(0, 1).equals("green kiwi")) {
+			System.out.println("Yay 10");
+		}
+
+		Table<Integer, Integer, Integer, IntegerComb> btable = new Table<>(new IntegerAdder(), new FlatGrid<Integer>());
+		DynamicArray<Integer> heads = new DynamicArray<>();
+		for (int i = 0; i < 5; i++) {
+			heads.add((i + 1) * 10);
+		}
+		btable.addRows(0, heads);
+		btable.addCols(0, heads);
+		btable.addRows(2, heads);
+		btable.addCols(5, heads);
+		DynamicArray<Integer> gone = btable.removeRows(0, 2);
+		btable.removeCols(1, 9);
+		if (btable.getSizeRow() == 8 && btable.getSizeCol() == 2 && gone.get(1) == 20 && btable.getRowHead(0) == 10
+				&& btable.getCell(0, 0) == 20 && btable.getCell(7, 1) == 100 && btable.getColHead(1) == 50) {
+			System.out.println("Yay 11");
+		}
+
+		Table<Integer, Integer, Integer, IntegerComb> ptable = new Table<>(new IntegerAdder(),
+				new FlatGrid<Integer>(100, 3), 100, 3);
+		ptable.addRows(0, heads);
+		ptable.addCols(0, heads);
+		if (ptable.getSizeRow() == 5 && ptable.getSizeCol() == 5 && ptable.getCell(4, 4) == 100) {
+			System.out.println("Yay 12");
+		}
+
+		// a CowGrid shares its spine with the snapshot, so it is recalculated
+		// serially and no row copy is lost
+		Table<Integer, Integer, Integer, IntegerComb> shared = new Table<>(new IntegerAdder(), new CowGrid<Integer>());
+		DynamicArray<Integer> many = new DynamicArray<>();
+		for (int i = 0; i < 300; i++) {
+			many.add(i);
+		}
+		shared.addCols(0, heads);
+		shared.addRows(0, many);
+		Table<Integer, Integer, Integer, IntegerComb> before = shared.snapshot();
+		ForkJoinPool four = new ForkJoinPool(4);
+		shared.setOp(new IntegerTimer(), four);
+		four.shutdown();
+		boolean all = true;
+		for (int i = 0; i < shared.getSizeRow(); i++) {
+			for (int k = 0; k < shared.getSizeCol(); k++) {
+				all = all && shared.getCell(i, k) == i * shared.getColHead(k)
+						&& before.getCell(i, k) == i + before.getColHead(k);
+			}
+		}
+		if (all) {
+			System.out.println("Yay 13");
+		}
+
 	}
 
 }
@@ -0,0 +1,81 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times whole-table recalculation with an expensive combiner, serially and on fork/join pools
+ * of increasing parallelism.
+ */
+public class TableBenchmark {
+
+	/**
+	 * @param rnd
+	 *            is the source of random letters
+	 * @param length
+	 *            is how many letters the string has
+	 * @return returns a random string over a small alphabet
+	 */
+	private static String randomText(Random rnd, int length) {
+		char[] text = new char[length];
+		for (int i = 0; i < length; i++) {
+			text[i] = (char) ('a' + rnd.nextInt(4));
+		}
+		return new String(text);
+	}
+
+	/**
+	 * @param rows
+	 *            is the number of rows, each headed by a 2000 letter text
+	 * @param cols
+	 *            is the number of columns, each headed by a 4 letter pattern
+	 * @return returns a filled SubstringCounter table
+	 */
+	private static Table<String, String, Integer, SubstringCounter> build(int rows, int cols) {
+		Random rnd = new Random(310);
+		Table<String, String, Integer, SubstringCounter> table = new Table<>(new SubstringCounter(),
+				new FlatGrid<Integer>());
+		for (int r = 0; r < rows; r++) {
+			table.addRow(r, randomText(rnd, 2000));
+		}
+		for (int c = 0; c < cols; c++) {
+			table.addCol(c, randomText(rnd, 4));
+		}
+		return table;
+	}
+
+	public static void main(String[] args) {
+		int rows = 400;
+		int cols = 400;
+		Table<String, String, Integer, SubstringCounter> table = build(rows, cols);
+
+		long start = System.nanoTime();
+		table.setOp(new SubstringCounter());
+		long serial = System.nanoTime() - start;
+		Integer[] expected = new Integer[rows * cols];
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < cols; c++) {
+				expected[r * cols + c] = table.getCell(r, c);
+			}
+		}
+		System.out.println(String.format("%-12s %8.1f ms", "serial", serial / 1e6));
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int p = 1; p <= cores; p *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(p);
+			start = System.nanoTime();
+			table.setOp(new SubstringCounter(), pool);
+			long parallel = System.nanoTime() - start;
+			pool.shutdown();
+			boolean same = true;
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < cols; c++) {
+					same = same && expected[r * cols + c].equals(table.getCell(r, c));
+				}
+			}
+			System.out.println(String.format("%-12s %8.1f ms %6.2fx %s", p + " threads", parallel / 1e6,
+					serial / (double) parallel, same ? "identical" : "MISMATCH"));
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class times loading rows into the middle of a table one addRow at a time against a single addRows
+ * call, for DynamicGrid and FlatGrid boards.
+ */
+public class TableBulkBenchmark {
+
+	private static final int COLS = 8; // columns of every table
+
+	/**
+	 * @param board
+	 *            is an empty grid to build the table on
+	 * @return returns a table with 1000 rows and COLS columns
+	 */
+	private static Table<Integer, Integer, Integer, IntegerComb> build(Grid<Integer> board) {
+		Table<Integer, Integer, Integer, IntegerComb> table = new Table<>(new IntegerAdder(), board);
+		DynamicArray<Integer> heads = new DynamicArray<>();
+		for (int i = 0; i < 1000; i++) {
+			heads.add(i);
+		}
+		table.addRows(0, heads);
+		DynamicArray<Integer> cols = new DynamicArray<>();
+		for (int c = 0; c < COLS; c++) {
+			cols.add(c * 1000000);
+		}
+		table.addCols(0, cols);
+		return table;
+	}
+
+	public static void main(String[] args) {
+		System.out.println(String.format("%-12s %-10s %12s %12s", "board", "rows", "addRow", "addRows"));
+		for (int k = 10000; k <= 100000; k *= 10) {
+			DynamicArray<Integer> rows = new DynamicArray<>(k);
+			for (int i = 0; i < k; i++) {
+				rows.add(-i);
+			}
+			for (String name : new String[] { "DynamicGrid", "FlatGrid" }) {
+				Table<Integer, Integer, Integer, IntegerComb> one = build(
+						name.equals("FlatGrid") ? new FlatGrid<Integer>() : new DynamicGrid<Integer>());
+				long start = System.nanoTime();
+				for (int i = k - 1; i >= 0; i--) {
+					// every row goes in at the same place, in front of the rows
+					// loaded so far, so each call shifts all of them
+					one.addRow(500, rows.get(i));
+				}
+				long single = System.nanoTime() - start;
+
+				Table<Integer, Integer, Integer, IntegerComb> bulk = build(
+						name.equals("FlatGrid") ? new FlatGrid<Integer>() : new DynamicGrid<Integer>());
+				start = System.nanoTime();
+				bulk.addRows(500, rows);
+				long batch = System.nanoTime() - start;
+
+				boolean same = one.getSizeRow() == bulk.getSizeRow();
+				for (int r = 0; r < one.getSizeRow(); r += 97) {
+					same = same && one.getCell(r, COLS - 1).equals(bulk.getCell(r, COLS - 1));
+				}
+				System.out.println(String.format("%-12s %-10d %9.1f ms %9.1f ms %s", name, k, single / 1e6,
+						batch / 1e6, same ? "" : "MISMATCH"));
+			}
+		}
+	}
+}
@@ -0,0 +1,663 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class reads and writes grids and tables as delimited text, comma or tab separated, a record at a time
+ * through one fixed-size char buffer. Rows read are handed to the grid or table with addRows, about BATCH
+ * cells at a time, so memory stays bounded by the batch and the labels whatever the size of the file, and
+ * writing never builds more than one field as a String. Fields holding the delimiter, a quote or a line break
+ * are quoted with doubled inner quotes as in RFC 4180, any of \n, \r\n or \r ends a record, and empty lines
+ * are skipped, so a record of one empty field is written as "". A table is written as a record of column
+ * labels after an empty corner field, then one record per row: its label and then its cells.
+ */
+public class TableCsv {
+
+	public static final char COMMA = ',';
+	public static final char TAB = '\t';
+	private static final int CHUNK = 1 << 16; // chars read or written at a time
+	private static final int BATCH = 1 << 15; // cells handed over per addRows, at least one row
+
+	/**
+	 * @param in
+	 *            is the text to read, each record one row
+	 * @param delimiter
+	 *            separates the fields of a record, COMMA or TAB
+	 * @param grid
+	 *            gets every record appended as a row
+	 * @param parse
+	 *            turns each field into a cell
+	 * @return returns the number of rows read
+	 * @throws IOException
+	 *             if in cannot be read, a quote is not closed, or a record
+	 *             does not have as many fields as the grid has columns
+	 */
+	public static <T> int readGrid(Reader in, char delimiter, Grid<T> grid, Function<String, T> parse)
+			throws IOException {
+		// O(N) where N is the length of the text
+		Input input = new Input(in, delimiter);
+		int count = 0;
+		DynamicArray<DynamicArray<T>> batch = new DynamicArray<>();
+		DynamicArray<String> record;
+		while ((record = input.next()) != null) {
+			if ((grid.getNumRow() != 0 || batch.size() != 0) && record.size() != expectedLength(grid, batch)) {
+				throw input.error("has " + record.size() + " fields, expected " + expectedLength(grid, batch));
+			}
+			DynamicArray<T> row = new DynamicArray<>(record.size());
+			for (int i = 0; i < record.size(); i++) {
+				row.add(parse.apply(record.get(i)));
+			}
+			batch.add(row);
+			count++;
+			if (batch.size() * record.size() >= BATCH) {
+				grid.addRows(grid.getNumRow(), batch);
+				batch = new DynamicArray<>(batch.size());
+			}
+		}
+		grid.addRows(grid.getNumRow(), batch);
+		return count;
+	}
+
+	/**
+	 * @param in
+	 *            is the UTF-8 text to read, each record one row
+	 * @see #readGrid(Reader, char, Grid, Function)
+	 */
+	public static <T> int readGrid(ReadableByteChannel in, char delimiter, Grid<T> grid, Function<String, T> parse)
+			throws IOException {
+		return readGrid(Channels.newReader(in, StandardCharsets.UTF_8), delimiter, grid, parse);
+	}
+
+	/**
+	 * Read int cells straight from the buffer into an IntCellGrid, without
+	 * making a String or an Integer per field.
+	 * 
+	 * @param in
+	 *            is the text to read, each record one row of ints
+	 * @param delimiter
+	 *            separates the fields of a record, COMMA or TAB
+	 * @param grid
+	 *            gets every record appended as a row
+	 * @return returns the number of rows read
+	 * @throws IOException
+	 *             if in cannot be read, a field is not an int, or a record
+	 *             does not have as many fields as the grid has columns
+	 */
+	public static int readIntGrid(Reader in, char delimiter, IntCellGrid grid) throws IOException {
+		// O(N) where N is the length of the text
+		Input input = new Input(in, delimiter);
+		int count = 0;
+		int[] row;
+		while ((row = input.nextInts()) != null) {
+			if (!grid.addRow(grid.getNumRow(), row)) {
+				throw input.error("has " + row.length + " fields, expected " + grid.getNumCol());
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * @param in
+	 *            is the UTF-8 text to read, each record one row of ints
+	 * @see #readIntGrid(Reader, char, IntCellGrid)
+	 */
+	public static int readIntGrid(ReadableByteChannel in, char delimiter, IntCellGrid grid) throws IOException {
+		return readIntGrid(Channels.newReader(in, StandardCharsets.UTF_8), delimiter, grid);
+	}
+
+	/**
+	 * @param in
+	 *            is the text to read, laid out as writeTable writes it
+	 * @param delimiter
+	 *            separates the fields of a record, COMMA or TAB
+	 * @param op
+	 *            is the operator of the table
+	 * @param board
+	 *            is the empty grid to build the table over
+	 * @param rowParse
+	 *            turns the first field of each row record into a row label
+	 * @param colParse
+	 *            turns the fields of the first record after the corner into
+	 *            column labels
+	 * @param cellParse
+	 *            turns the other fields of each row record into cells, which
+	 *            are taken as they are without calling op; null to ignore
+	 *            them and calculate every cell with op
+	 * @return returns a table of the labels and cells read
+	 * @throws IOException
+	 *             if in cannot be read, a quote is not closed, or a row record
+	 *             with cells does not have one per column label
+	 * @throws IllegalArgumentException
+	 *             if board already has rows or columns
+	 */
+	public static <R, C, V, O extends Combiner<R, C, V>> Table<R, C, V, O> readTable(Reader in, char delimiter,
+			O op, Grid<V> board, Function<String, R> rowParse, Function<String, C> colParse,
+			Function<String, V> cellParse) throws IOException {
+		// O(N + RC) where N is the length of the text, R is the number of rows
+		// and C is the number of columns
+		if (board.getNumRow() != 0 || board.getNumCol() != 0) {
+			throw new IllegalArgumentException("Board must be empty!");
+		}
+		Input input = new Input(in, delimiter);
+		DynamicArray<String> record = input.next();
+		DynamicArray<C> colHead = new DynamicArray<>(Math.max(1, record == null ? 0 : record.size() - 1));
+		for (int i = 1; record != null && i < record.size(); i++) {
+			colHead.add(colParse.apply(record.get(i)));
+		}
+		int cols = colHead.size();
+		boolean keepCells = cellParse != null && cols != 0;
+
+		Table<R, C, V, O> table = keepCells ? null : new Table<>(op, board);
+		if (table != null) {
+			table.addCols(0, colHead);
+		}
+		DynamicArray<R> rowHead = new DynamicArray<>();
+		int batchRows = Math.max(1, BATCH / Math.max(1, cols));
+		DynamicArray<R> labels = new DynamicArray<>(batchRows);
+		DynamicArray<DynamicArray<V>> cells = new DynamicArray<>(batchRows);
+		while ((record = input.next()) != null) {
+			R label = rowParse.apply(record.get(0));
+			if (keepCells) {
+				if (record.size() != cols + 1) {
+					throw input.error("has " + record.size() + " fields, expected " + (cols + 1));
+				}
+				DynamicArray<V> row = new DynamicArray<>(cols);
+				for (int i = 1; i <= cols; i++) {
+					row.add(cellParse.apply(record.get(i)));
+				}
+				rowHead.add(label);
+				cells.add(row);
+				if (cells.size() == batchRows) {
+					board.addRows(board.getNumRow(), cells);
+					cells = new DynamicArray<>(batchRows);
+				}
+			} else {
+				labels.add(label);
+				if (labels.size() == batchRows) {
+					table.addRows(table.getSizeRow(), labels);
+					labels = new DynamicArray<>(batchRows);
+				}
+			}
+		}
+		if (keepCells) {
+			board.addRows(board.getNumRow(), cells);
+			return Table.restore(op, rowHead, colHead, board);
+		}
+		table.addRows(table.getSizeRow(), labels);
+		return table;
+	}
+
+	/**
+	 * @param in
+	 *            is the UTF-8 text to read, laid out as writeTable writes it
+	 * @see #readTable(Reader, char, Combiner, Grid, Function, Function,
+	 *      Function)
+	 */
+	public static <R, C, V, O extends Combiner<R, C, V>> Table<R, C, V, O> readTable(ReadableByteChannel in,
+			char delimiter, O op, Grid<V> board, Function<String, R> rowParse, Function<String, C> colParse,
+			Function<String, V> cellParse) throws IOException {
+		return readTable(Channels.newReader(in, StandardCharsets.UTF_8), delimiter, op, board, rowParse, colParse,
+				cellParse);
+	}
+
+	/**
+	 * @param grid
+	 *            is the grid to write, one record per row
+	 * @param out
+	 *            is where to write, flushed but not closed
+	 * @param delimiter
+	 *            separates the fields of a record, COMMA or TAB
+	 * @throws IOException
+	 *             if out cannot be written
+	 */
+	public static void writeGrid(Grid<?> grid, Writer out, char delimiter) throws IOException {
+		// O(RC) where R is the number of rows and C is the number of columns
+		Output output = new Output(out, delimiter);
+		for (int r = 0; r < grid.getNumRow(); r++) {
+			for (int c = 0; c < grid.getNumCol(); c++) {
+				output.field(c, grid.get(r, c));
+			}
+			output.endRecord();
+		}
+		output.flush();
+	}
+
+	/**
+	 * @param table
+	 *            is the table to write, labels first
+	 * @param out
+	 *            is where to write, flushed but not closed
+	 * @param delimiter
+	 *            separates the fields of a record, COMMA or TAB
+	 * @throws IOException
+	 *             if out cannot be written
+	 */
+	public static void writeTable(Table<?, ?, ?, ?> table, Writer out, char delimiter) throws IOException {
+		// O(RC) where R is the number of rows and C is the number of columns
+		Output output = new Output(out, delimiter);
+		DynamicArray<?> rowHead = table.rowHeads();
+		DynamicArray<?> colHead = table.colHeads();
+		output.field(0, "");
+		for (int c = 0; c < colHead.size(); c++) {
+			output.field(c + 1, colHead.get(c));
+		}
+		output.endRecord();
+		for (int r = 0; r < rowHead.size(); r++) {
+			output.field(0, rowHead.get(r));
+			// with no column labels the board only holds placeholders
+			for (int c = 0; c < colHead.size(); c++) {
+				output.field(c + 1, table.getCell(r, c));
+			}
+			output.endRecord();
+		}
+		output.flush();
+	}
+
+	/**
+	 * @return returns the number of fields the next row of grid must have
+	 */
+	private static int expectedLength(Grid<?> grid, DynamicArray<? extends DynamicArray<?>> batch) {
+		return grid.getNumRow() != 0 ? grid.getNumCol() : batch.get(0).size();
+	}
+
+	/**
+	 * Splits text into records of fields, refilling one buffer as it goes.
+	 */
+	private static final class Input {
+
+		private final Reader in;
+		private final char delimiter;
+		private final char[] buffer = new char[CHUNK];
+		private final StringBuilder spill = new StringBuilder(); // a field that crosses a refill
+		private int pos = 0; // next char to look at
+		private int limit = 0; // end of the chars read
+		private int width = 1; // fields in the last record, the likely size of the next
+		private int[] ints = new int[1]; // where nextInts collects a record
+		private int line = 0; // line the current record starts on, from 1
+		private int nextLine = 1; // line the next record starts on
+
+		Input(Reader in, char delimiter) {
+			this.in = in;
+			this.delimiter = delimiter;
+		}
+
+		/**
+		 * @return returns true if there is a char at pos, reading more if
+		 *         needed
+		 */
+		private boolean fill() throws IOException {
+			if (pos < limit) {
+				return true;
+			}
+			int read;
+			do {
+				read = in.read(buffer, 0, buffer.length);
+			} while (read == 0);
+			pos = 0;
+			limit = Math.max(0, read);
+			return read > 0;
+		}
+
+		/**
+		 * @return returns the fields of the next record that is not an empty
+		 *         line, null at the end of the text
+		 */
+		DynamicArray<String> next() throws IOException {
+			// skip empty lines
+			while (this.fill() && (buffer[pos] == '\n' || buffer[pos] == '\r')) {
+				this.endLine();
+			}
+			if (!this.fill()) {
+				return null;
+			}
+			line = nextLine;
+			DynamicArray<String> fields = new DynamicArray<>(width);
+			while (true) {
+				fields.add(buffer[pos] == '"' ? this.quoted() : this.plain());
+				if (!this.fill()) {
+					break;
+				}
+				if (buffer[pos] != delimiter) {
+					this.endLine();
+					break;
+				}
+				pos++;
+				if (!this.fill()) {
+					// a delimiter right before the end leaves an empty field
+					fields.add("");
+					break;
+				}
+			}
+			width = fields.size();
+			return fields;
+		}
+
+		/**
+		 * @return returns the fields of the next record that is not an empty
+		 *         line as ints, null at the end of the text
+		 */
+		int[] nextInts() throws IOException {
+			while (this.fill() && (buffer[pos] == '\n' || buffer[pos] == '\r')) {
+				this.endLine();
+			}
+			if (!this.fill()) {
+				return null;
+			}
+			line = nextLine;
+			if (ints.length < width) {
+				ints = new int[width];
+			}
+			int count = 0;
+			while (true) {
+				if (count == ints.length) {
+					ints = Arrays.copyOf(ints, count * 2);
+				}
+				if (buffer[pos] == '"') {
+					String field = this.quoted();
+					try {
+						ints[count++] = Integer.parseInt(field);
+					} catch (NumberFormatException e) {
+						throw this.error("has a field that is not an int");
+					}
+				} else {
+					ints[count++] = this.plainInt();
+				}
+				if (!this.fill()) {
+					break;
+				}
+				if (buffer[pos] != delimiter) {
+					this.endLine();
+					break;
+				}
+				pos++;
+				if (!this.fill()) {
+					throw this.error("has a field that is not an int");
+				}
+			}
+			width = count;
+			return Arrays.copyOf(ints, count);
+		}
+
+		/**
+		 * @return returns the int at pos, which does not start with a quote
+		 */
+		private int plainInt() throws IOException {
+			boolean negative = buffer[pos] == '-';
+			if (negative || buffer[pos] == '+') {
+				pos++;
+			}
+			long value = 0;
+			int digits = 0;
+			while (this.fill()) {
+				char ch = buffer[pos];
+				if (ch < '0' || ch > '9') {
+					if (ch != delimiter && ch != '\n' && ch != '\r') {
+						digits = 0;
+					}
+					break;
+				}
+				value = value * 10 + (ch - '0');
+				if (value > Integer.MAX_VALUE + 1L) {
+					digits = 0;
+					break;
+				}
+				digits++;
+				pos++;
+			}
+			value = negative ? -value : value;
+			if (digits == 0 || value > Integer.MAX_VALUE) {
+				throw this.error("has a field that is not an int");
+			}
+			return (int) value;
+		}
+
+		/**
+		 * @return returns the field at pos, which does not start with a quote
+		 */
+		private String plain() throws IOException {
+			// scan with locals so the loop over the buffer stays tight
+			char[] chars = buffer;
+			char stop = delimiter;
+			int start = pos;
+			int i = pos;
+			while (true) {
+				int end = limit;
+				while (i < end) {
+					char ch = chars[i];
+					if (ch == stop || ch == '\n' || ch == '\r') {
+						pos = i;
+						if (spill.length() == 0) {
+							return new String(chars, start, i - start);
+						}
+						spill.append(chars, start, i - start);
+						return this.takeSpill();
+					}
+					i++;
+				}
+				spill.append(chars, start, i - start);
+				pos = i;
+				if (!this.fill()) {
+					return this.takeSpill();
+				}
+				start = pos;
+				i = pos;
+			}
+		}
+
+
+		/**
+		 * @return returns the field at pos, which starts with a quote
+		 */
+		private String quoted() throws IOException {
+			pos++;
+			int start = pos;
+			while (true) {
+				if (pos == limit) {
+					spill.append(buffer, start, pos - start);
+					if (!this.fill()) {
+						throw this.error("ends inside a quoted field");
+					}
+					start = pos;
+				}
+				char ch = buffer[pos];
+				if (ch == '\n') {
+					nextLine++;
+				}
+				if (ch == '"') {
+					spill.append(buffer, start, pos - start);
+					pos++;
+					if (this.fill() && buffer[pos] == '"') {
+						// a doubled quote stands for one quote
+						start = pos;
+						pos++;
+						continue;
+					}
+					if (this.fill() && buffer[pos] != delimiter && buffer[pos] != '\n' && buffer[pos] != '\r') {
+						throw this.error("has text after a closing quote");
+					}
+					return this.takeSpill();
+				}
+				pos++;
+			}
+		}
+
+		/**
+		 * Step over the line break at pos, \r\n counting as one.
+		 */
+		private void endLine() throws IOException {
+			char ch = buffer[pos++];
+			nextLine++;
+			if (ch == '\r' && this.fill() && buffer[pos] == '\n') {
+				pos++;
+			}
+		}
+
+		private String takeSpill() {
+			String field = spill.toString();
+			spill.setLength(0);
+			return field;
+		}
+
+		/**
+		 * @param problem
+		 *            says what is wrong with the current record
+		 * @return returns an exception naming the line of the record
+		 */
+		IOException error(String problem) {
+			return new IOException("Record on line " + line + " " + problem + "!");
+		}
+	}
+
+	/**
+	 * Quotes fields as needed and writes them to a Writer a buffer at a
+	 * time.
+	 */
+	private static final class Output {
+
+		private final Writer out;
+		private final char delimiter;
+		private final char[] buffer = new char[CHUNK];
+		private int pos = 0; // chars waiting in buffer
+		private boolean blank = false; // true while the record is one empty field
+
+		Output(Writer out, char delimiter) {
+			this.out = out;
+			this.delimiter = delimiter;
+		}
+
+		/**
+		 * @param index
+		 *            is the position of the field in its record
+		 * @param value
+		 *            is written as String.valueOf would, null as an empty
+		 *            field
+		 */
+		void field(int index, Object value) throws IOException {
+			if (index != 0) {
+				this.put(delimiter);
+			}
+			String text = value == null ? "" : value.toString();
+			blank = index == 0 && text.isEmpty();
+			boolean quote = false;
+			for (int i = 0; i < text.length() && !quote; i++) {
+				char ch = text.charAt(i);
+				quote = ch == delimiter || ch == '"' || ch == '\n' || ch == '\r';
+			}
+			if (!quote) {
+				this.put(text);
+				return;
+			}
+			this.put('"');
+			for (int i = 0; i < text.length(); i++) {
+				char ch = text.charAt(i);
+				if (ch == '"') {
+					this.put('"');
+				}
+				this.put(ch);
+			}
+			this.put('"');
+		}
+
+		void endRecord() throws IOException {
+			if (blank) {
+				this.put("\"\"");
+			}
+			this.put('\n');
+		}
+
+		private void put(char ch) throws IOException {
+			if (pos == buffer.length) {
+				this.drain();
+			}
+			buffer[pos++] = ch;
+		}
+
+		private void put(String text) throws IOException {
+			int offset = 0;
+			while (offset < text.length()) {
+				if (pos == buffer.length) {
+					this.drain();
+				}
+				int length = Math.min(buffer.length - pos, text.length() - offset);
+				text.getChars(offset, offset + length, buffer, pos);
+				pos += length;
+				offset += length;
+			}
+		}
+
+		private void drain() throws IOException {
+			out.write(buffer, 0, pos);
+			pos = 0;
+		}
+
+		void flush() throws IOException {
+			this.drain();
+			out.flush();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		FlatGrid<String> fields = new FlatGrid<>();
+		int read = readGrid(new StringReader("a,\"b,c\",\"say \"\"hi\"\"\"\r\n\r\n1,,\"x\ny\"\n"), COMMA, fields,
+				s -> s);
+		if (read == 2 && fields.getNumCol() == 3 && fields.get(0, 1).equals("b,c")
+				&& fields.get(0, 2).equals("say \"hi\"") && fields.get(1, 1).equals("") && fields.get(1, 2).equals("x\ny")) {
+			System.out.println("Yay 1");
+		}
+
+		StringWriter text = new StringWriter();
+		writeGrid(fields, text, COMMA);
+		FlatGrid<String> again = new FlatGrid<>();
+		readGrid(new StringReader(text.toString()), COMMA, again, s -> s);
+		boolean malformed = false;
+		try {
+			readGrid(new StringReader("1\t2\n3\n"), TAB, new DynamicGrid<String>(), s -> s);
+		} catch (IOException e) {
+			malformed = e.getMessage().contains("line 2");
+		}
+		if (malformed && again.getNumRow() == 2 && again.get(0, 2).equals("say \"hi\"")
+				&& again.get(1, 2).equals("x\ny")) {
+			System.out.println("Yay 2");
+		}
+
+		Table<String, String, Integer, SubstringCounter> counts = new Table<>(new SubstringCounter());
+		counts.addRow(0, "banana");
+		counts.addRow(1, "a\tb\ta");
+		counts.addCol(0, "an");
+		counts.addCol(1, "a");
+		text = new StringWriter();
+		writeTable(counts, text, TAB);
+		Table<String, String, Integer, SubstringCounter> kept = readTable(new StringReader(text.toString()), TAB,
+				new SubstringCounter(), new FlatGrid<Integer>(), s -> s, s -> s, Integer::valueOf);
+		Table<String, String, Integer, SubstringCounter> redone = readTable(new StringReader(text.toString()), TAB,
+				new SubstringCounter(), new DynamicGrid<Integer>(), s -> s, s -> s, null);
+		if (kept.toString().equals(counts.toString()) && redone.toString().equals(counts.toString())
+				&& kept.getRowHead(1).equals("a\tb\ta") && redone.getCell(1, 1) == 2) {
+			System.out.println("Yay 3");
+		}
+
+		IntGrid ints = new IntGrid();
+		readIntGrid(new StringReader("1,-20,\"300\"\r\n-2147483648,0,2147483647\n"), COMMA, ints);
+		boolean notInt = false;
+		try {
+			readIntGrid(new StringReader("1,2a,3\n"), COMMA, new IntGrid());
+		} catch (IOException e) {
+			notInt = true;
+		}
+		if (notInt && ints.getNumRow() == 2 && ints.getInt(0, 1) == -20 && ints.getInt(0, 2) == 300
+				&& ints.getInt(1, 0) == Integer.MIN_VALUE && ints.getInt(1, 2) == Integer.MAX_VALUE) {
+			System.out.println("Yay 4");
+		}
+	}
+}
@@ -0,0 +1,103 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class writes a 20000 x 500 grid of ints as CSV through TableCsv and reads it back four ways: only
+ * decoding the text, which bounds what any parser can reach, with TableCsv.readIntGrid, with
+ * TableCsv.readGrid, and with readLine, split and one addRow per line.
+ */
+public class TableCsvBenchmark {
+
+	private static final int ROWS = 20000;
+	private static final int COLS = 500;
+
+	public static void main(String[] args) throws IOException {
+		Path path = Files.createTempFile("grid", ".csv");
+		try {
+			IntGrid grid = new IntGrid(ROWS, COLS);
+			Random rnd = new Random(1);
+			int[] row = new int[COLS];
+			for (int r = 0; r < ROWS; r++) {
+				for (int c = 0; c < COLS; c++) {
+					row[c] = rnd.nextInt(1000000);
+				}
+				grid.addRow(r, row);
+			}
+
+			long start = System.nanoTime();
+			try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				TableCsv.writeGrid(grid, out, TableCsv.COMMA);
+			}
+			long writeNs = System.nanoTime() - start;
+			double mb = Files.size(path) / 1e6;
+			System.out.println(String.format("%.1f MB of CSV", mb));
+			System.out.println(String.format("%-22s %8.1f MB/s", "writeGrid", mb / (writeNs / 1e9)));
+
+			long decodeNs = Long.MAX_VALUE;
+			long intNs = Long.MAX_VALUE;
+			long streamNs = Long.MAX_VALUE;
+			long lineNs = Long.MAX_VALUE;
+			for (int rep = 0; rep < 5; rep++) {
+				start = System.nanoTime();
+				try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					char[] buffer = new char[1 << 16];
+					while (in.read(buffer) >= 0) {
+						// decode only
+					}
+				}
+				decodeNs = Math.min(decodeNs, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				IntGrid unboxed = new IntGrid();
+				try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+					TableCsv.readIntGrid(in, TableCsv.COMMA, unboxed);
+				}
+				intNs = Math.min(intNs, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				IntGrid streamed = new IntGrid();
+				try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+					TableCsv.readGrid(in, TableCsv.COMMA, streamed, Integer::valueOf);
+				}
+				streamNs = Math.min(streamNs, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				IntGrid lines = new IntGrid();
+				try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					String line;
+					while ((line = in.readLine()) != null) {
+						String[] fields = line.split(",");
+						DynamicArray<Integer> cells = new DynamicArray<>(fields.length);
+						for (String field : fields) {
+							cells.add(Integer.valueOf(field));
+						}
+						lines.addRow(lines.getNumRow(), cells);
+					}
+				}
+				lineNs = Math.min(lineNs, System.nanoTime() - start);
+				if (streamed.getInt(ROWS - 1, COLS - 1) != grid.getInt(ROWS - 1, COLS - 1)
+						|| unboxed.getInt(ROWS - 1, COLS - 1) != grid.getInt(ROWS - 1, COLS - 1)
+						|| lines.getNumRow() != ROWS) {
+					throw new IllegalStateException("Wrong cell!");
+				}
+			}
+			System.out.println(String.format("%-22s %8.1f MB/s", "decode only", mb / (decodeNs / 1e9)));
+			System.out.println(String.format("%-22s %8.1f MB/s", "readIntGrid", mb / (intNs / 1e9)));
+			System.out.println(String.format("%-22s %8.1f MB/s", "readGrid", mb / (streamNs / 1e9)));
+			System.out.println(String.format("%-22s %8.1f MB/s", "readLine + split", mb / (lineNs / 1e9)));
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
@@ -0,0 +1,606 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class saves a Table to a binary file and opens it again without calling its combiner. The file holds
+ * the name of the combiner class, the row and column labels and every cell, row-major. Reopening reads the
+ * labels and maps the cells, which the operating system then pages in as they are read, so opening costs
+ * O(R+C) whatever the number of cells. The first change to a reopened table copies the cells onto the heap.
+ * Labels and cells can be Integers or Strings; each mapped section is limited to 2 GB.
+ *
+ * The layout, big-endian: magic, version, cell offset (long), index offset (long, 0 for Integer cells),
+ * number of row labels, number of column labels, the type of the row labels, column labels and cells (one
+ * byte each, then a pad byte), the length and UTF-8 bytes of the combiner class name, the row labels, the
+ * column labels, then the cells: one int each, or the UTF-8 bytes of every String followed by R*C+1 long
+ * offsets into them.
+ */
+public class TableFile {
+
+	private static final int MAGIC = 0x54424C31; // "TBL1", written last, after the rest is on disk
+	private static final int VERSION = 1;
+	private static final int HEADER = 40; // bytes before the combiner name, its length included
+	private static final byte NONE = 0; // no values to save
+	private static final byte INTEGER = 1;
+	private static final byte STRING = 2;
+	private static final int CHUNK = 1 << 16; // bytes staged before each channel write
+
+	/**
+	 * @param table
+	 *            is the table to save
+	 * @param path
+	 *            is the file to write, replaced if it exists; tables already
+	 *            opened from it keep reading the old contents
+	 * @throws IOException
+	 *             if the file cannot be written
+	 * @throws IllegalArgumentException
+	 *             if a label or cell is not an Integer or a String, or the
+	 *             cells are not all the same type
+	 */
+	public static void write(Table<?, ?, ?, ?> table, Path path) throws IOException {
+		// O(RC) where R is the number of rows and C is the number of columns
+		DynamicArray<?> rowHead = table.rowHeads();
+		DynamicArray<?> colHead = table.colHeads();
+		int rows = rowHead.size();
+		int cols = colHead.size();
+		// with no column labels the board only holds placeholders, which
+		// open rebuilds from the row labels
+		boolean hasCells = rows != 0 && cols != 0;
+		byte cellType = hasCells ? typeOf(table.getCell(0, 0)) : NONE;
+		byte[] name = table.getOp().getClass().getName().getBytes(StandardCharsets.UTF_8);
+
+		// write a new file next to path and move it over path, so tables
+		// still mapping the old file are never truncated under them and a
+		// crash leaves either the old file or the complete new one
+		Path dir = path.toAbsolutePath().getParent();
+		Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+		boolean moved = false;
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				writeTo(channel, table, rowHead, colHead, cellType, name);
+			}
+			Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			moved = true;
+		} finally {
+			if (!moved) {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	/**
+	 * Write everything but the magic, force it to disk, then write and force
+	 * the header that makes the file open.
+	 */
+	private static void writeTo(FileChannel channel, Table<?, ?, ?, ?> table, DynamicArray<?> rowHead,
+			DynamicArray<?> colHead, byte cellType, byte[] name) throws IOException {
+		// O(RC) where R is the number of rows and C is the number of columns
+		int rows = rowHead.size();
+		int cols = colHead.size();
+		Output out = new Output(channel);
+		// magic and offsets are filled in once everything else is written
+		out.putInt(0);
+		out.putInt(VERSION);
+		out.putLong(0);
+		out.putLong(0);
+		out.putInt(rows);
+		out.putInt(cols);
+		out.put(typeOf(rowHead));
+		out.put(typeOf(colHead));
+		out.put(cellType);
+		out.put((byte) 0);
+		out.putInt(name.length);
+		out.put(name);
+		putValues(out, rowHead);
+		putValues(out, colHead);
+
+		long cellStart = out.position();
+		long indexStart = 0;
+		if (cellType == INTEGER) {
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < cols; c++) {
+					out.putInt((Integer) checkType(table.getCell(r, c), cellType));
+				}
+			}
+		} else if (cellType == STRING) {
+			LongDynamicArray offsets = new LongDynamicArray(rows * cols + 1);
+			offsets.add(0);
+			for (int r = 0; r < rows; r++) {
+				for (int c = 0; c < cols; c++) {
+					byte[] bytes = ((String) checkType(table.getCell(r, c), cellType))
+							.getBytes(StandardCharsets.UTF_8);
+					out.put(bytes);
+					offsets.add(out.position() - cellStart);
+				}
+			}
+			indexStart = out.position();
+			for (int i = 0; i < offsets.size(); i++) {
+				out.putLong(offsets.get(i));
+			}
+		}
+		out.flush();
+		channel.force(false);
+
+		ByteBuffer header = ByteBuffer.allocate(24);
+		header.putInt(MAGIC).putInt(VERSION).putLong(cellStart).putLong(indexStart).flip();
+		while (header.hasRemaining()) {
+			channel.write(header, header.position());
+		}
+		channel.force(true);
+	}
+
+	/**
+	 * @param path
+	 *            is a file written by write
+	 * @return returns the class name of the combiner the table was saved with
+	 * @throws IOException
+	 *             if the file cannot be read or is not a table file
+	 */
+	public static String combinerName(Path path) throws IOException {
+		// O(1)
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER);
+			readFully(channel, header, 0);
+			checkHeader(header);
+			ByteBuffer name = ByteBuffer.allocate(header.getInt(HEADER - 4));
+			readFully(channel, name, HEADER);
+			return new String(name.array(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * @param path
+	 *            is a file written by write
+	 * @param op
+	 *            is the combiner the table was saved with, it is not called
+	 *            until the table changes
+	 * @return returns the saved table, its cells mapped from the file
+	 * @throws IOException
+	 *             if the file cannot be read or is not a table file
+	 * @throws IllegalArgumentException
+	 *             if op is not of the combiner class the table was saved with
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R, C, V, O extends Combiner<R, C, V>> Table<R, C, V, O> open(Path path, O op)
+			throws IOException {
+		// O(R+C) where R is the number of rows and C is the number of columns
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer header = ByteBuffer.allocate(HEADER);
+			readFully(channel, header, 0);
+			checkHeader(header);
+			long cellStart = header.getLong(8);
+			long indexStart = header.getLong(16);
+			int rows = header.getInt(24);
+			int cols = header.getInt(28);
+			byte cellType = header.get(34);
+
+			// the labels are read once, the cells stay in the file
+			ByteBuffer heads = map(channel, 0, cellStart);
+			heads.position(HEADER - 4);
+			byte[] name = new byte[heads.getInt()];
+			heads.get(name);
+			String saved = new String(name, StandardCharsets.UTF_8);
+			if (!saved.equals(op.getClass().getName())) {
+				throw new IllegalArgumentException("Table was saved with " + saved + "!");
+			}
+			DynamicArray<R> rowHead = (DynamicArray<R>) getValues(heads, header.get(32), rows);
+			DynamicArray<C> colHead = (DynamicArray<C>) getValues(heads, header.get(33), cols);
+
+			Grid<V> board;
+			if (cellType == INTEGER) {
+				board = new MappedGrid<>(rows, cols, map(channel, cellStart, size - cellStart), null);
+			} else if (cellType == STRING) {
+				board = new MappedGrid<>(rows, cols, map(channel, cellStart, indexStart - cellStart),
+						map(channel, indexStart, size - indexStart));
+			} else {
+				// no cells, but a table with row labels only keeps each label
+				// as its placeholder cell
+				board = new FlatGrid<>();
+				for (int r = 0; r < rows; r++) {
+					DynamicArray<V> row = new DynamicArray<>(1);
+					row.add((V) rowHead.get(r));
+					board.addRow(r, row);
+				}
+			}
+			return Table.restore(op, rowHead, colHead, board);
+		}
+	}
+
+	/**
+	 * @param value
+	 *            is a label or cell
+	 * @return returns the type code of value
+	 * @throws IllegalArgumentException
+	 *             if value is not an Integer or a String
+	 */
+	private static byte typeOf(Object value) {
+		if (value instanceof Integer) {
+			return INTEGER;
+		}
+		if (value instanceof String) {
+			return STRING;
+		}
+		throw new IllegalArgumentException("Only Integer and String values can be saved!");
+	}
+
+	/**
+	 * @param values
+	 *            are labels
+	 * @return returns the type code shared by every label, NONE if there are
+	 *         none
+	 * @throws IllegalArgumentException
+	 *             if the labels are not all Integers or all Strings
+	 */
+	private static byte typeOf(DynamicArray<?> values) {
+		// O(N) where N is the number of values
+		if (values.size() == 0) {
+			return NONE;
+		}
+		byte type = typeOf(values.get(0));
+		for (int i = 1; i < values.size(); i++) {
+			checkType(values.get(i), type);
+		}
+		return type;
+	}
+
+	/**
+	 * @param value
+	 *            is a label or cell
+	 * @param type
+	 *            is the type code value must have
+	 * @return returns value
+	 * @throws IllegalArgumentException
+	 *             if value does not have that type
+	 */
+	private static Object checkType(Object value, byte type) {
+		if (typeOf(value) != type) {
+			throw new IllegalArgumentException("Values of one kind must all have the same type!");
+		}
+		return value;
+	}
+
+	/**
+	 * @param out
+	 *            is where to write
+	 * @param values
+	 *            are Integer or String labels
+	 */
+	private static void putValues(Output out, DynamicArray<?> values) throws IOException {
+		// O(N) where N is the number of values
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.get(i);
+			if (value instanceof Integer) {
+				out.putInt((Integer) value);
+			} else {
+				byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+				out.putInt(bytes.length);
+				out.put(bytes);
+			}
+		}
+	}
+
+	/**
+	 * @param in
+	 *            is positioned at the first value
+	 * @param type
+	 *            is the type code of the values
+	 * @param count
+	 *            is how many values to read
+	 * @return returns the values, in
+	 */
+	private static DynamicArray<Object> getValues(ByteBuffer in, byte type, int count) {
+		// O(N) where N is the number of values
+		DynamicArray<Object> values = new DynamicArray<>(Math.max(1, count));
+		for (int i = 0; i < count; i++) {
+			if (type == INTEGER) {
+				values.add(in.getInt());
+			} else {
+				byte[] bytes = new byte[in.getInt()];
+				in.get(bytes);
+				values.add(new String(bytes, StandardCharsets.UTF_8));
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @param header
+	 *            holds the first HEADER bytes of a file
+	 * @throws IOException
+	 *             if they are not the header of a complete table file
+	 */
+	private static void checkHeader(ByteBuffer header) throws IOException {
+		if (header.getInt(0) != MAGIC) {
+			throw new IOException("Not a table file!");
+		}
+		if (header.getInt(4) != VERSION) {
+			throw new IOException("Unknown table file version " + header.getInt(4) + "!");
+		}
+	}
+
+	/**
+	 * @param channel
+	 *            is the file to read
+	 * @param dst
+	 *            is filled completely
+	 * @param position
+	 *            is the file position of the first byte
+	 * @throws IOException
+	 *             if the file ends first
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer dst, long position) throws IOException {
+		while (dst.hasRemaining()) {
+			int read = channel.read(dst, position + dst.position());
+			if (read < 0) {
+				throw new IOException("Not a table file!");
+			}
+		}
+	}
+
+	/**
+	 * @param channel
+	 *            is the file to map
+	 * @param position
+	 *            is the file position of the section
+	 * @param length
+	 *            is the length of the section in bytes
+	 * @return returns the section mapped read-only, it stays valid after the
+	 *         channel is closed
+	 * @throws IOException
+	 *             if the section is larger than one mapping can be
+	 */
+	private static MappedByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+		if (length > Integer.MAX_VALUE) {
+			throw new IOException("Table section is too large to map!");
+		}
+		return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+	}
+
+	/**
+	 * Stages bytes in a buffer and writes them to a channel a chunk at a
+	 * time.
+	 */
+	private static final class Output {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK);
+		private long written = 0; // bytes already handed to the channel
+
+		Output(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		long position() {
+			return written + buffer.position();
+		}
+
+		void put(byte value) throws IOException {
+			this.room(1);
+			buffer.put(value);
+		}
+
+		void putInt(int value) throws IOException {
+			this.room(Integer.BYTES);
+			buffer.putInt(value);
+		}
+
+		void putLong(long value) throws IOException {
+			this.room(Long.BYTES);
+			buffer.putLong(value);
+		}
+
+		void put(byte[] values) throws IOException {
+			int offset = 0;
+			while (offset < values.length) {
+				this.room(1);
+				int length = Math.min(buffer.remaining(), values.length - offset);
+				buffer.put(values, offset, length);
+				offset += length;
+			}
+		}
+
+		private void room(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				this.flush();
+			}
+		}
+
+		void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				written += channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * A grid that reads its cells from a mapped file until the first change,
+	 * which copies them into a FlatGrid that serves every call after.
+	 */
+	private static final class MappedGrid<T> implements Grid<T> {
+
+		private final int numRow;
+		private final int numCol;
+		private final ByteBuffer cells; // one int per cell, or the String bytes
+		private final ByteBuffer index; // String offsets into cells, null for Integer cells
+		private FlatGrid<T> copy; // the cells once changed, null until then
+
+		MappedGrid(int numRow, int numCol, ByteBuffer cells, ByteBuffer index) {
+			this.numRow = numRow;
+			this.numCol = numCol;
+			this.cells = cells;
+			this.index = index;
+		}
+
+		public int getNumRow() {
+			return copy == null ? numRow : copy.getNumRow();
+		}
+
+		public int getNumCol() {
+			return copy == null ? numCol : copy.getNumCol();
+		}
+
+		public T get(int indexRow, int indexCol) {
+			// O(1), O(L) for a String of L bytes
+			if (copy != null) {
+				return copy.get(indexRow, indexCol);
+			}
+			if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+				// throw IndexOutOfBoundsException for invalid index
+				throw new IndexOutOfBoundsException("Index out of bounds!");
+			}
+			return this.read(indexRow * numCol + indexCol);
+		}
+
+		@SuppressWarnings("unchecked")
+		private T read(int slot) {
+			if (index == null) {
+				return (T) Integer.valueOf(cells.getInt(slot * Integer.BYTES));
+			}
+			long start = index.getLong(slot * Long.BYTES);
+			byte[] bytes = new byte[(int) (index.getLong((slot + 1) * Long.BYTES) - start)];
+			cells.get((int) start, bytes);
+			return (T) new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * @return returns the heap copy of the cells, making it first if
+		 *         needed
+		 */
+		private FlatGrid<T> writable() {
+			// O(RC) the first time, O(1) after
+			if (copy == null) {
+				FlatGrid<T> tempCopy = new FlatGrid<>(Math.max(1, numRow), Math.max(1, numCol));
+				for (int r = 0; r < numRow; r++) {
+					DynamicArray<T> row = new DynamicArray<>(Math.max(1, numCol));
+					for (int c = 0; c < numCol; c++) {
+						row.add(this.read(r * numCol + c));
+					}
+					tempCopy.addRow(r, row);
+				}
+				copy = tempCopy;
+			}
+			return copy;
+		}
+
+		public T set(int indexRow, int indexCol, T value) {
+			return this.writable().set(indexRow, indexCol, value);
+		}
+
+		public boolean addRow(int index, DynamicArray<T> newRow) {
+			return this.writable().addRow(index, newRow);
+		}
+
+		public boolean addCol(int index, DynamicArray<T> newCol) {
+			return this.writable().addCol(index, newCol);
+		}
+
+		public DynamicArray<T> removeRow(int index) {
+			return this.writable().removeRow(index);
+		}
+
+		public DynamicArray<T> removeCol(int index) {
+			return this.writable().removeCol(index);
+		}
+
+		@Override
+		public boolean addRows(int index, DynamicArray<DynamicArray<T>> newRows) {
+			return this.writable().addRows(index, newRows);
+		}
+
+		@Override
+		public boolean addCols(int index, DynamicArray<DynamicArray<T>> newCols) {
+			return this.writable().addCols(index, newCols);
+		}
+
+		@Override
+		public void removeRows(int from, int to) {
+			this.writable().removeRows(from, to);
+		}
+
+		@Override
+		public void removeCols(int from, int to) {
+			this.writable().removeCols(from, to);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		Path path = Files.createTempFile("table", ".tbl");
+		try {
+			Table<String, String, Integer, SubstringCounter> counts = new Table<>(new SubstringCounter());
+			counts.addRow(0, "banana");
+			counts.addRow(1, "bandana");
+			counts.addCol(0, "an");
+			counts.addCol(1, "a");
+			counts.addCol(2, "na");
+			write(counts, path);
+			Table<String, String, Integer, SubstringCounter> back = open(path, new SubstringCounter());
+			if (combinerName(path).equals("SubstringCounter") && back.getSizeRow() == 2 && back.getSizeCol() == 3
+					&& back.getRowHead(1).equals("bandana") && back.getColHead(2).equals("na")
+					&& back.getCell(0, 0) == 2 && back.getCell(1, 1) == 3) {
+				System.out.println("Yay 1");
+			}
+
+			back.addCol(3, "ban");
+			back.removeRow(0);
+			if (back.getSizeRow() == 1 && back.getSizeCol() == 4 && back.getCell(0, 3) == 1
+					&& back.getCell(0, 0) == 2) {
+				System.out.println("Yay 2");
+			}
+
+			Table<String, String, String, StringAdder> words = new Table<>(new StringAdder());
+			words.addRow(0, "red");
+			words.addCol(0, "apple");
+			words.addCol(1, "kiwi");
+			write(words, path);
+			Table<String, String, String, StringAdder> wordsBack = open(path, new StringAdder());
+			boolean wrongOp = false;
+			try {
+				open(path, new SubstringCounter());
+			} catch (IllegalArgumentException e) {
+				wrongOp = true;
+			}
+			if (wrongOp && wordsBack.getCell(0, 1).equals(words.getCell(0, 1))
+					&& wordsBack.toString().equals(words.toString())) {
+				System.out.println("Yay 3");
+			}
+
+			Table<Integer, Integer, Integer, IntegerComb> labels = new Table<>(new IntegerAdder());
+			labels.addRow(0, 4);
+			labels.addRow(1, 5);
+			write(labels, path);
+			Table<Integer, Integer, Integer, IntegerComb> labelsBack = open(path, new IntegerAdder());
+			labelsBack.addCol(0, 10);
+			if (labelsBack.getSizeRow() == 2 && labelsBack.getCell(1, 0) == 15) {
+				System.out.println("Yay 4");
+			}
+
+			// replacing the file must not pull it out from under a table
+			// that still maps it
+			Table<Integer, Integer, Integer, IntegerComb> big = new Table<>(new IntegerAdder());
+			for (int i = 0; i < 300; i++) {
+				big.addRow(i, i);
+				big.addCol(i, i);
+			}
+			write(big, path);
+			Table<Integer, Integer, Integer, IntegerComb> bigBack = open(path, new IntegerAdder());
+			write(labels, path);
+			if (bigBack.getCell(299, 299) == 598 && open(path, new IntegerAdder()).getSizeRow() == 2) {
+				System.out.println("Yay 5");
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
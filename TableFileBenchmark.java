@@ -0,0 +1,82 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class compares rebuilding SubstringCounter tables of growing size with saving them once through
+ * TableFile and opening the file again, and times the first cell read from a reopened table.
+ */
+public class TableFileBenchmark {
+
+	private static final int[] SIZES = { 250, 500, 1000, 2000 };
+
+	/**
+	 * @param n
+	 *            is the number of row and column labels
+	 * @param rnd
+	 *            picks the labels
+	 * @return returns an n x n table counting short patterns in long texts
+	 */
+	private static Table<String, String, Integer, SubstringCounter> build(int n, Random rnd) {
+		Table<String, String, Integer, SubstringCounter> table = new Table<>(new SubstringCounter(),
+				new FlatGrid<Integer>(), n, n);
+		DynamicArray<String> texts = new DynamicArray<>(n);
+		DynamicArray<String> patterns = new DynamicArray<>(n);
+		for (int i = 0; i < n; i++) {
+			texts.add(word(rnd, 500));
+			patterns.add(word(rnd, 1 + rnd.nextInt(3)));
+		}
+		table.addCols(0, patterns);
+		table.addRows(0, texts);
+		return table;
+	}
+
+	/**
+	 * @return returns a random string of length letters from a to d
+	 */
+	private static String word(Random rnd, int length) {
+		char[] letters = new char[length];
+		for (int i = 0; i < length; i++) {
+			letters[i] = (char) ('a' + rnd.nextInt(4));
+		}
+		return new String(letters);
+	}
+
+	public static void main(String[] args) throws IOException {
+		Path path = Files.createTempFile("table", ".tbl");
+		try {
+			for (int n : SIZES) {
+				long start = System.nanoTime();
+				Table<String, String, Integer, SubstringCounter> table = build(n, new Random(n));
+				long buildNs = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				TableFile.write(table, path);
+				long writeNs = System.nanoTime() - start;
+
+				long openNs = Long.MAX_VALUE;
+				long firstNs = Long.MAX_VALUE;
+				for (int rep = 0; rep < 5; rep++) {
+					start = System.nanoTime();
+					Table<String, String, Integer, SubstringCounter> back = TableFile.open(path,
+							new SubstringCounter());
+					openNs = Math.min(openNs, System.nanoTime() - start);
+					start = System.nanoTime();
+					if (!back.getCell(n - 1, n - 1).equals(table.getCell(n - 1, n - 1))) {
+						throw new IllegalStateException("Wrong cell!");
+					}
+					firstNs = Math.min(firstNs, System.nanoTime() - start);
+				}
+				System.out.println(String.format(
+						"%5d x %-5d build %9.1f ms   write %8.1f ms   open %7.3f ms   first cell %7.3f ms", n, n,
+						buildNs / 1e6, writeNs / 1e6, openNs / 1e6, firstNs / 1e6));
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
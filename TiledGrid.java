@@ -0,0 +1,384 @@
+import java.util.Arrays;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class creates a dynamic grid whose cells are stored in square 64 x 64 tiles, each one contiguous
+ * array. A scan in row order or in column order stays inside one tile for 64 steps in either direction, so
+ * both orders touch memory that is close together instead of one of them jumping a whole row (or column)
+ * per step. Growing only adds tiles and never copies the cells already stored.
+ */
+public class TiledGrid<T> implements Grid<T> {
+
+	private static final int SHIFT = 6; // log2 of the tile side
+	private static final int TILE = 1 << SHIFT; // cells per tile side
+	private static final int MASK = TILE - 1;
+	private static final int INITCAP = 2; // default initial capacity / minimum capacity in tiles per axis
+
+	/**
+	 * Receives the cells of a grid one at a time.
+	 */
+	public interface CellVisitor<T> {
+		/**
+		 * @param indexRow
+		 *            is the row of the cell
+		 * @param indexCol
+		 *            is the column of the cell
+		 * @param value
+		 *            is the value of the cell
+		 */
+		void visit(int indexRow, int indexCol, T value);
+	}
+
+	private Object[][] tiles; // tile (tr, tc) is tiles[tr * tileColCap + tc], row-major inside
+	private int tileRowCap = INITCAP; // tile rows the tile index can hold
+	private int tileColCap = INITCAP; // tile columns the tile index can hold
+	private int liveTileRows = 0; // tiles exist for exactly liveTileRows x liveTileCols
+	private int liveTileCols = 0;
+	private int numRow = 0;
+	private int numCol = 0;
+
+	public TiledGrid() {
+		// constructor
+		// create an empty grid of 0 rows and 0 cols
+		this.tiles = new Object[INITCAP * INITCAP][];
+	}
+
+	/**
+	 * @return returns the number of rows in the grid
+	 */
+	public int getNumRow() {
+		// O(1)
+		return numRow;
+	}
+
+	/**
+	 * @return returns the number of columns in the grid
+	 */
+	public int getNumCol() {
+		// O(1)
+		return numCol;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int indexRow, int indexCol) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		return (T) this.tile(indexRow, indexCol)[this.slot(indexRow, indexCol)];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(int indexRow, int indexCol, T value) {
+		// O(1)
+		if (indexRow < 0 || indexCol < 0 || indexRow >= numRow || indexCol >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		Object[] tile = this.tile(indexRow, indexCol);
+		int slot = this.slot(indexRow, indexCol);
+		T oldItem = (T) tile[slot];
+		tile[slot] = value;
+		return oldItem;
+	}
+
+	@Override
+	public boolean addRow(int index, DynamicArray<T> newRow) {
+		// amortized O((R-index+1)C) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (index < 0 || index > numRow) {
+			return false;
+		}
+		if (numRow == 0) {
+			// the first row decides how many columns the grid has
+			numCol = newRow.size();
+		} else if (newRow.size() != numCol) {
+			// cannot add if the length of newRow does not match existing rows
+			return false;
+		}
+		this.ensureTiles(numRow + 1, numCol);
+		// move the rows from index on down one, last row first
+		for (int r = numRow - 1; r >= index; r--) {
+			this.copyRow(r, r + 1);
+		}
+		for (int c = 0; c < numCol; c++) {
+			this.tile(index, c)[this.slot(index, c)] = newRow.get(c);
+		}
+		numRow++;
+		return true;
+	}
+
+	@Override
+	public boolean addCol(int index, DynamicArray<T> newCol) {
+		// amortized O(R(C-index+1)) where R is the number of rows and C is the
+		// number of columns of the grid
+		if (index < 0 || index > numCol || numRow == 0 || newCol.size() != numRow) {
+			return false;
+		}
+		this.ensureTiles(numRow, numCol + 1);
+		for (int r = 0; r < numRow; r++) {
+			// move the cells from index on right one, last tile first, carrying
+			// the last cell of each tile into the first slot of the next
+			int offset = (r & MASK) << SHIFT;
+			for (int tc = numCol >> SHIFT; tc >= index >> SHIFT; tc--) {
+				Object[] tile = tiles[(r >> SHIFT) * tileColCap + tc];
+				int lo = Math.max(index, tc << SHIFT) - (tc << SHIFT);
+				int hi = Math.min(numCol, (tc << SHIFT) + MASK) - (tc << SHIFT);
+				if ((tc << SHIFT) + MASK < numCol && (tc << SHIFT) + MASK >= index) {
+					tiles[(r >> SHIFT) * tileColCap + tc + 1][offset] = tile[offset + MASK];
+				}
+				if (hi > lo) {
+					System.arraycopy(tile, offset + lo, tile, offset + lo + 1, hi - lo);
+				}
+			}
+			this.tile(r, index)[this.slot(r, index)] = newCol.get(r);
+		}
+		numCol++;
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeRow(int index) {
+		// O((R-index)C) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numRow) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldRow = new DynamicArray<>(Math.max(1, numCol));
+		for (int c = 0; c < numCol; c++) {
+			oldRow.add((T) this.tile(index, c)[this.slot(index, c)]);
+		}
+		// move the rows after index up one, first row first
+		for (int r = index; r < numRow - 1; r++) {
+			this.copyRow(r + 1, r);
+		}
+		numRow--;
+		// clear the old last row so the removed references can be collected
+		for (int tc = 0; tc << SHIFT < numCol; tc++) {
+			Object[] tile = tiles[(numRow >> SHIFT) * tileColCap + tc];
+			int offset = (numRow & MASK) << SHIFT;
+			Arrays.fill(tile, offset, offset + TILE, null);
+		}
+		if (numRow == 0) {
+			numCol = 0;
+		}
+		this.freeTiles();
+		return oldRow;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public DynamicArray<T> removeCol(int index) {
+		// O(R(C-index)) where R is the number of rows and C is the number of
+		// columns of the grid
+		if (index < 0 || index >= numCol) {
+			// throw IndexOutOfBoundsException for invalid index
+			throw new IndexOutOfBoundsException("Index out of bounds!");
+		}
+		DynamicArray<T> oldCol = new DynamicArray<>(Math.max(1, numRow));
+		for (int r = 0; r < numRow; r++) {
+			oldCol.add((T) this.tile(r, index)[this.slot(r, index)]);
+			// move the cells after index left one, first tile first, carrying
+			// the first cell of each next tile into the last slot of this one
+			int offset = (r & MASK) << SHIFT;
+			for (int tc = index >> SHIFT; tc << SHIFT < numCol; tc++) {
+				Object[] tile = tiles[(r >> SHIFT) * tileColCap + tc];
+				int lo = Math.max(index, tc << SHIFT) - (tc << SHIFT);
+				int hi = Math.min(numCol, (tc + 1) << SHIFT) - (tc << SHIFT);
+				System.arraycopy(tile, offset + lo + 1, tile, offset + lo, hi - lo - 1);
+				if ((tc + 1) << SHIFT < numCol) {
+					tile[offset + MASK] = tiles[(r >> SHIFT) * tileColCap + tc + 1][offset];
+				}
+			}
+			// clear the old last cell so the removed reference can be collected
+			this.tile(r, numCol - 1)[this.slot(r, numCol - 1)] = null;
+		}
+		numCol--;
+		this.freeTiles();
+		return oldCol;
+	}
+
+	/**
+	 * Visit every cell one tile at a time, so each tile is loaded once
+	 * whatever the shape of the grid.
+	 *
+	 * @param visitor
+	 *            receives every cell
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachTiled(CellVisitor<? super T> visitor) {
+		// O(RC) where R is the number of rows and C is the number of columns
+		for (int tr = 0; tr << SHIFT < numRow; tr++) {
+			for (int tc = 0; tc << SHIFT < numCol; tc++) {
+				Object[] tile = tiles[tr * tileColCap + tc];
+				int rows = Math.min(TILE, numRow - (tr << SHIFT));
+				int cols = Math.min(TILE, numCol - (tc << SHIFT));
+				for (int i = 0; i < rows; i++) {
+					for (int k = 0; k < cols; k++) {
+						visitor.visit((tr << SHIFT) + i, (tc << SHIFT) + k, (T) tile[(i << SHIFT) + k]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return returns the tile holding cell (r, c)
+	 */
+	private Object[] tile(int r, int c) {
+		return tiles[(r >> SHIFT) * tileColCap + (c >> SHIFT)];
+	}
+
+	/**
+	 * @return returns the slot of cell (r, c) inside its tile
+	 */
+	private int slot(int r, int c) {
+		return ((r & MASK) << SHIFT) | (c & MASK);
+	}
+
+	/**
+	 * @param from
+	 *            is the row to copy
+	 * @param to
+	 *            is the row to overwrite, one tile segment at a time
+	 */
+	private void copyRow(int from, int to) {
+		// O(C) where C is the number of columns
+		int fromTile = (from >> SHIFT) * tileColCap;
+		int toTile = (to >> SHIFT) * tileColCap;
+		int fromOffset = (from & MASK) << SHIFT;
+		int toOffset = (to & MASK) << SHIFT;
+		for (int tc = 0; tc << SHIFT < numCol; tc++) {
+			System.arraycopy(tiles[fromTile + tc], fromOffset, tiles[toTile + tc], toOffset,
+					Math.min(TILE, numCol - (tc << SHIFT)));
+		}
+	}
+
+	/**
+	 * Make sure every tile covering rows x cols exists.
+	 *
+	 * @param rows
+	 *            is the number of rows that must fit
+	 * @param cols
+	 *            is the number of columns that must fit
+	 */
+	private void ensureTiles(int rows, int cols) {
+		// O(1) if no tile is missing, otherwise O(N) where N is the number of
+		// new tiles, plus O(T) where T is the number of tiles when the tile
+		// index grows
+		int needRows = Math.max(liveTileRows, (rows + MASK) >> SHIFT);
+		int needCols = Math.max(liveTileCols, (cols + MASK) >> SHIFT);
+		if (needRows == liveTileRows && needCols == liveTileCols) {
+			return;
+		}
+		if (needRows > tileRowCap || needCols > tileColCap) {
+			// double the tile index along the axis that is full, moving tile
+			// references only
+			int newRowCap = tileRowCap;
+			int newColCap = tileColCap;
+			while (newRowCap < needRows) {
+				newRowCap *= 2;
+			}
+			while (newColCap < needCols) {
+				newColCap *= 2;
+			}
+			Object[][] tempTiles = new Object[newRowCap * newColCap][];
+			for (int tr = 0; tr < liveTileRows; tr++) {
+				System.arraycopy(tiles, tr * tileColCap, tempTiles, tr * newColCap, liveTileCols);
+			}
+			tiles = tempTiles;
+			tileRowCap = newRowCap;
+			tileColCap = newColCap;
+		}
+		// the new tile columns next to the existing tile rows, then the new
+		// tile rows across every tile column
+		for (int tr = 0; tr < liveTileRows; tr++) {
+			for (int tc = liveTileCols; tc < needCols; tc++) {
+				tiles[tr * tileColCap + tc] = new Object[TILE * TILE];
+			}
+		}
+		for (int tr = liveTileRows; tr < needRows; tr++) {
+			for (int tc = 0; tc < needCols; tc++) {
+				tiles[tr * tileColCap + tc] = new Object[TILE * TILE];
+			}
+		}
+		liveTileRows = needRows;
+		liveTileCols = needCols;
+	}
+
+	/**
+	 * Drop the tiles no cell falls in anymore, they only hold nulls.
+	 */
+	private void freeTiles() {
+		// O(1) if no tile fell out of range, otherwise O(N) where N is the
+		// number of tiles dropped
+		int needRows = (numRow + MASK) >> SHIFT;
+		int needCols = (numCol + MASK) >> SHIFT;
+		for (int tr = needRows; tr < liveTileRows; tr++) {
+			for (int tc = 0; tc < liveTileCols; tc++) {
+				tiles[tr * tileColCap + tc] = null;
+			}
+		}
+		for (int tr = 0; tr < Math.min(needRows, liveTileRows); tr++) {
+			for (int tc = needCols; tc < liveTileCols; tc++) {
+				tiles[tr * tileColCap + tc] = null;
+			}
+		}
+		liveTileRows = Math.min(needRows, liveTileRows);
+		liveTileCols = Math.min(needCols, liveTileCols);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder grid = new StringBuilder();
+		for (int r = 0; r < numRow; r++) {
+			for (int c = 0; c < numCol; c++) {
+				grid.append(this.get(r, c)).append(' ');
+			}
+			grid.append('\n');
+		}
+		return grid.toString();
+	}
+
+	public static void main(String[] args) {
+		TiledGrid<Integer> tgrid = new TiledGrid<>();
+		for (int r = 0; r < 100; r++) {
+			DynamicArray<Integer> row = new DynamicArray<>();
+			for (int c = 0; c < 130; c++) {
+				row.add(r * 1000 + c);
+			}
+			tgrid.addRow(r, row);
+		}
+		if (tgrid.getNumRow() == 100 && tgrid.getNumCol() == 130 && tgrid.get(99, 129) == 99129
+				&& tgrid.get(64, 64) == 64064) {
+			System.out.println("Yay 1");
+		}
+
+		DynamicArray<Integer> col = new DynamicArray<>();
+		for (int r = 0; r < 100; r++) {
+			col.add(-r);
+		}
+		tgrid.addCol(10, col);
+		DynamicArray<Integer> oldRow = tgrid.removeRow(0);
+		if (tgrid.getNumCol() == 131 && tgrid.getNumRow() == 99 && tgrid.get(0, 10) == -1 && tgrid.get(0, 64) == 1063
+				&& tgrid.get(0, 130) == 1129 && oldRow.get(10) == 0 && oldRow.get(11) == 10) {
+			System.out.println("Yay 2");
+		}
+
+		DynamicArray<Integer> oldCol = tgrid.removeCol(63);
+		tgrid.set(98, 129, 5);
+		long[] sum = new long[1];
+		tgrid.forEachTiled((r, c, v) -> sum[0] += v);
+		if (oldCol.get(0) == 1062 && tgrid.get(0, 63) == 1063 && tgrid.get(0, 129) == 1129
+				&& tgrid.get(98, 129) == 5 && sum[0] != 0) {
+			System.out.println("Yay 3");
+		}
+	}
+}
@@ -0,0 +1,39 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * @author Helena Gray
+ * @version 10.18.2026
+ *
+ * This class does the IntKernels row loops with the Vector API, one SIMD register of ints at a time, and
+ * finishes the tail that does not fill a register with a scalar loop. It lives in its own source root
+ * because it needs --add-modules jdk.incubator.vector at compile and run time, which the rest of the tree
+ * does not; IntKernels loads it reflectively and falls back to scalar loops when it is missing or the module
+ * was not added. See readme.txt for how to build it.
+ */
+class VectorIntKernels implements IntKernels.Lanes {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	public void add(int operand1, int[] operands2, int[] dest, int n) {
+		IntVector a = IntVector.broadcast(SPECIES, operand1);
+		int i = 0;
+		for (int upper = SPECIES.loopBound(n); i < upper; i += SPECIES.length()) {
+			IntVector.fromArray(SPECIES, operands2, i).add(a).intoArray(dest, i);
+		}
+		for (; i < n; i++) {
+			dest[i] = operand1 + operands2[i];
+		}
+	}
+
+	public void mul(int operand1, int[] operands2, int[] dest, int n) {
+		IntVector a = IntVector.broadcast(SPECIES, operand1);
+		int i = 0;
+		for (int upper = SPECIES.loopBound(n); i < upper; i += SPECIES.length()) {
+			IntVector.fromArray(SPECIES, operands2, i).mul(a).intoArray(dest, i);
+		}
+		for (; i < n; i++) {
+			dest[i] = operand1 * operands2[i];
+		}
+	}
+}